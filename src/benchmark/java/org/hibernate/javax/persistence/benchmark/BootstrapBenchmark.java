@@ -0,0 +1,178 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2026, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+// $Id$
+
+package org.hibernate.javax.persistence.benchmark;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceUtil;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceProviderResolverHolder;
+
+import org.hibernate.javax.persistence.benchmark.StubPersistenceProviders.StubEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the global static paths of the bootstrap API: provider resolution,
+ * <code>Persistence.createEntityManagerFactory</code> and <code>PersistenceUtil</code>.
+ * <p/>
+ * The providers are declared through a <code>META-INF/services</code> file served by a
+ * dedicated classloader which is set as context classloader of every benchmark thread.
+ * The entities are owned by the provider resolved last, so every lookup which is not
+ * memoized walks the whole provider list.
+ *
+ * @see BootstrapBenchmarkRunner
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BootstrapBenchmark {
+	private static final String SERVICE_FILE = "META-INF/services/" + PersistenceProvider.class.getName();
+
+	@State(Scope.Benchmark)
+	public static class Providers {
+		@Param({ "1", "2", "8" })
+		int providerCount;
+
+		ClassLoader classLoader;
+		String persistenceUnitName;
+		Object entity;
+		List<String> attributeNames;
+		private File serviceFile;
+
+		@Setup(Level.Trial)
+		public void setUp() throws IOException {
+			serviceFile = File.createTempFile( "persistence-providers", ".txt" );
+			OutputStream out = new FileOutputStream( serviceFile );
+			try {
+				out.write( StubPersistenceProviders.serviceFile( providerCount ).getBytes( "UTF-8" ) );
+			}
+			finally {
+				out.close();
+			}
+			classLoader = new ServiceFileClassLoader( serviceFile.toURI().toURL() );
+
+			ClassLoader original = Thread.currentThread().getContextClassLoader();
+			Thread.currentThread().setContextClassLoader( classLoader );
+			try {
+				List<PersistenceProvider> providers = PersistenceProviderResolverHolder.getPersistenceProviderResolver()
+						.getPersistenceProviders();
+				Class<? extends PersistenceProvider> owner = providers.get( providers.size() - 1 ).getClass();
+				persistenceUnitName = owner.getName();
+				entity = new StubEntity( owner );
+			}
+			finally {
+				Thread.currentThread().setContextClassLoader( original );
+			}
+			attributeNames = Arrays.asList( "id", "name", "owner", "children" );
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			serviceFile.delete();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class ContextClassLoader {
+		private ClassLoader original;
+
+		@Setup(Level.Trial)
+		public void setUp(Providers providers) {
+			original = Thread.currentThread().getContextClassLoader();
+			Thread.currentThread().setContextClassLoader( providers.classLoader );
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			Thread.currentThread().setContextClassLoader( original );
+		}
+	}
+
+	@Benchmark
+	public List<PersistenceProvider> getPersistenceProviders(ContextClassLoader context) {
+		return PersistenceProviderResolverHolder.getPersistenceProviderResolver().getPersistenceProviders();
+	}
+
+	@Benchmark
+	public EntityManagerFactory createEntityManagerFactory(Providers providers, ContextClassLoader context) {
+		return Persistence.createEntityManagerFactory( providers.persistenceUnitName );
+	}
+
+	@Benchmark
+	public boolean isLoadedAttribute(Providers providers, ContextClassLoader context) {
+		return Persistence.getPersistenceUtil().isLoaded( providers.entity, "name" );
+	}
+
+	@Benchmark
+	public boolean isLoadedEntity(Providers providers, ContextClassLoader context) {
+		return Persistence.getPersistenceUtil().isLoaded( providers.entity );
+	}
+
+	@Benchmark
+	public BitSet getLoadedAttributes(Providers providers, ContextClassLoader context) {
+		PersistenceUtil util = Persistence.getPersistenceUtil();
+		return util.getLoadedAttributes( providers.entity, providers.attributeNames );
+	}
+
+	/**
+	 * Serves the given file as the only provider configuration file and delegates
+	 * everything else to the classloader of the benchmark.
+	 */
+	private static final class ServiceFileClassLoader extends ClassLoader {
+		private final URL serviceFile;
+
+		private ServiceFileClassLoader(URL serviceFile) {
+			super( BootstrapBenchmark.class.getClassLoader() );
+			this.serviceFile = serviceFile;
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			if ( SERVICE_FILE.equals( name ) ) {
+				return Collections.enumeration( Collections.singletonList( serviceFile ) );
+			}
+			return super.getResources( name );
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2026, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+// $Id$
+
+package org.hibernate.javax.persistence.benchmark;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link BootstrapBenchmark} once per thread count, from 1 to 64 threads.
+ * <p/>
+ * Arguments are regular JMH command line options and are applied to every run,
+ * e.g. <code>-p providerCount=8</code> to restrict the provider counts.
+ */
+public final class BootstrapBenchmarkRunner {
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+
+	private BootstrapBenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions( args );
+		for ( int threads : THREAD_COUNTS ) {
+			Options options = new OptionsBuilder()
+					.parent( commandLineOptions )
+					.include( BootstrapBenchmark.class.getName() )
+					.threads( threads )
+					.build();
+			new Runner( options ).run();
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2026, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+// $Id$
+
+package org.hibernate.javax.persistence.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.spi.LoadState;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceUnitInfo;
+import javax.persistence.spi.ProviderUtil;
+
+/**
+ * In-memory persistence providers used by the benchmarks.
+ * <p/>
+ * Each provider only recognizes the entities it owns and the persistence unit named
+ * after its class, so that resolution walks the provider list the way it does when
+ * several providers are deployed.
+ */
+public final class StubPersistenceProviders {
+	public static final int MAX_PROVIDERS = 8;
+
+	private StubPersistenceProviders() {
+	}
+
+	/**
+	 * @param count number of providers
+	 *
+	 * @return the content of a <code>META-INF/services</code> file declaring <code>count</code> providers
+	 */
+	public static String serviceFile(int count) {
+		if ( count < 1 || count > MAX_PROVIDERS ) {
+			throw new IllegalArgumentException( "Between 1 and " + MAX_PROVIDERS + " providers are supported: " + count );
+		}
+		StringBuilder content = new StringBuilder();
+		for ( int i = 1; i <= count; i++ ) {
+			content.append( StubPersistenceProviders.class.getName() ).append( "$Provider" ).append( i ).append( '\n' );
+		}
+		return content.toString();
+	}
+
+	/**
+	 * Entity owned by a given provider.
+	 */
+	public static final class StubEntity {
+		private final Class<? extends PersistenceProvider> owner;
+
+		public StubEntity(Class<? extends PersistenceProvider> owner) {
+			this.owner = owner;
+		}
+	}
+
+	public abstract static class StubProvider implements PersistenceProvider {
+		private static final EntityManagerFactory ENTITY_MANAGER_FACTORY = createEntityManagerFactory();
+
+		private final ProviderUtil providerUtil = new StubProviderUtil( getClass() );
+
+		public EntityManagerFactory createEntityManagerFactory(String emName, Map map) {
+			return getClass().getName().equals( emName ) ? ENTITY_MANAGER_FACTORY : null;
+		}
+
+		public EntityManagerFactory createContainerEntityManagerFactory(PersistenceUnitInfo info, Map map) {
+			return ENTITY_MANAGER_FACTORY;
+		}
+
+		public ProviderUtil getProviderUtil() {
+			return providerUtil;
+		}
+
+		private static EntityManagerFactory createEntityManagerFactory() {
+			return (EntityManagerFactory) Proxy.newProxyInstance(
+					StubProvider.class.getClassLoader(),
+					new Class<?>[] { EntityManagerFactory.class },
+					new InvocationHandler() {
+						public Object invoke(Object proxy, Method method, Object[] args) {
+							throw new UnsupportedOperationException( method.getName() );
+						}
+					}
+			);
+		}
+	}
+
+	private static final class StubProviderUtil implements ProviderUtil {
+		private final Class<? extends PersistenceProvider> provider;
+
+		private StubProviderUtil(Class<? extends PersistenceProvider> provider) {
+			this.provider = provider;
+		}
+
+		public LoadState isLoadedWithoutReference(Object entity, String attributeName) {
+			return isLoaded( entity );
+		}
+
+		public LoadState isLoadedWithReference(Object entity, String attributeName) {
+			return isLoaded( entity );
+		}
+
+		public LoadState isLoaded(Object entity) {
+			return isOwned( entity ) ? LoadState.LOADED : LoadState.UNKNOWN;
+		}
+
+		public LoadState isLoadedWithoutReference(Object entity, List<String> attributeNames, BitSet loadedAttributes) {
+			return isLoadedWithReference( entity, attributeNames, loadedAttributes );
+		}
+
+		public LoadState isLoadedWithReference(Object entity, List<String> attributeNames, BitSet loadedAttributes) {
+			if ( !isOwned( entity ) ) {
+				return LoadState.UNKNOWN;
+			}
+			loadedAttributes.set( 0, attributeNames.size() );
+			return LoadState.LOADED;
+		}
+
+		private boolean isOwned(Object entity) {
+			return entity instanceof StubEntity && ( (StubEntity) entity ).owner == provider;
+		}
+	}
+
+	public static final class Provider1 extends StubProvider {
+	}
+
+	public static final class Provider2 extends StubProvider {
+	}
+
+	public static final class Provider3 extends StubProvider {
+	}
+
+	public static final class Provider4 extends StubProvider {
+	}
+
+	public static final class Provider5 extends StubProvider {
+	}
+
+	public static final class Provider6 extends StubProvider {
+	}
+
+	public static final class Provider7 extends StubProvider {
+	}
+
+	public static final class Provider8 extends StubProvider {
+	}
+}
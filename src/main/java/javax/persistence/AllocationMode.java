@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+/**
+ * Defines how the blocks of identifiers obtained by a sequence or
+ * table generator are allocated to the entities being persisted.
+ * The size of the blocks is defined by the <code>allocationSize</code>
+ * element of the generator.
+ *
+ * @see SequenceGenerator#allocationMode()
+ * @see TableGenerator#allocationMode()
+ */
+public enum AllocationMode {
+
+    /**
+     * Indicates that the persistence provider allocates identifiers
+     * using its default algorithm: this is the default behavior.
+     */
+    DEFAULT,
+
+    /**
+     * Indicates that the value obtained from the database is the
+     * highest identifier of the allocated block.  Other applications
+     * sharing the sequence or table can safely use it with the same
+     * allocation size.
+     */
+    POOLED,
+
+    /**
+     * Indicates that the value obtained from the database is the
+     * lowest identifier of the allocated block.
+     */
+    POOLED_LO,
+
+    /**
+     * Indicates that each thread is handed a block of its own,
+     * obtained from the database as with <code>POOLED</code>, so that
+     * concurrent inserts do not contend on a single shared block.
+     * Identifiers remain unique, but are not assigned in increasing
+     * order across threads and more identifiers may be left unused
+     * when the entity manager factory is closed.
+     */
+    STRIPED
+}
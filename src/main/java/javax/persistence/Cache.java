@@ -17,10 +17,15 @@
 
 package javax.persistence;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Interface used to interact with the second-level cache.
- * If a cache is not in use, the methods of this interface have
- * no effect, except for <code>contains</code>, which returns false.
+ * If a cache is not in use, <code>contains</code> returns false,
+ * <code>getAll</code> returns an empty map, <code>getStatistics</code>
+ * returns null, and the other methods of this interface have no
+ * effect.
  *
  * @since Java Persistence 2.0
  */
@@ -41,6 +46,13 @@ public interface Cache {
      */
     public void evict(Class cls, Object primaryKey);
 
+    /**
+     * Remove the data for the given entities from the cache.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     */
+    public void evict(Class cls, Collection<?> primaryKeys);
+
     /**
      * Remove the data for entities of the specified class (and its
      * subclasses) from the cache.
@@ -52,4 +64,66 @@ public interface Cache {
      * Clear the cache.
      */
     public void evictAll();
+
+    /**
+     * Remove all the cached query results.
+     * @see Query
+     */
+    public void evictQueryResults();
+
+    /**
+     * Remove the cached query results depending on the specified
+     * entity class (or its subclasses).
+     * @param cls  entity class
+     * @see Query
+     */
+    public void evictQueryResults(Class cls);
+
+    /**
+     * Return detached entity instances built from the data held in
+     * the cache for the given entities.  The database is not accessed.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     * @return the entity instances keyed by primary key; entities
+     *         whose data is not in the cache are absent from the map,
+     *         which is empty if a cache is not in use
+     */
+    public <T> Map<Object, T> getAll(Class<T> cls, Collection<?> primaryKeys);
+
+    /**
+     * Load into the cache the data for the given entities, reading
+     * from the database the entities whose data is not in the cache.
+     * Entities which do not exist are ignored.  Has no effect if a
+     * cache is not in use or the entity class is not cached.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     */
+    public void preload(Class cls, Collection<?> primaryKeys);
+
+    /**
+     * Load into the cache the data for all entities of the specified
+     * class (and its subclasses).  This is intended to warm the cache
+     * for reference data.  Has no effect if a cache is not in use
+     * or the entity class is not cached.
+     * @param cls  entity class
+     */
+    public void preload(Class cls);
+
+    /**
+     * Return the statistics of the cache for the specified entity
+     * class.  Statistics are only collected if the
+     * <code>javax.persistence.cache.statistics</code> property of the
+     * persistence unit is set to true.
+     * @param cls  entity class
+     * @return statistics for the entity class, or null if a cache
+     *         is not in use or statistics are not collected
+     */
+    public CacheStatistics getStatistics(Class<?> cls);
+
+    /**
+     * Reset the statistics of the cache for all entity classes.
+     * Has no effect if a cache is not in use or statistics are not
+     * collected.
+     */
+    public void resetStatistics();
 }
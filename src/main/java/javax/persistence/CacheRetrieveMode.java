@@ -21,7 +21,8 @@ package javax.persistence;
  * Used as the value of the
  * <code>javax.persistence.cache.retrieveMode</code> property to
  * specify the behavior when data is retrieved by the
- * <code>find</code> methods and by queries.
+ * <code>find</code> methods and by queries.  When set on a query,
+ * it also applies to the query result cache.
  *
  * @since Java Persistence 2.0
  */
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+/**
+ * Statistics of the second-level cache for an entity class.
+ * Counters are cumulative since the entity manager factory was
+ * created or since the statistics were last reset.
+ *
+ * @see Cache#getStatistics(Class)
+ */
+public interface CacheStatistics {
+
+    /**
+     * Return the entity class the statistics relate to.
+     * @return entity class
+     */
+    public Class<?> getEntityClass();
+
+    /**
+     * Return the number of lookups answered from the cache.
+     * @return hit count
+     */
+    public long getHitCount();
+
+    /**
+     * Return the number of lookups not answered from the cache.
+     * @return miss count
+     */
+    public long getMissCount();
+
+    /**
+     * Return the number of entity states put in the cache.
+     * @return put count
+     */
+    public long getPutCount();
+
+    /**
+     * Return the number of entity states removed from the cache,
+     * whether explicitly through the <code>Cache</code> interface,
+     * by the provider to keep the cache consistent, or by the cache
+     * implementation to bound its size.
+     * @return eviction count
+     */
+    public long getEvictionCount();
+
+    /**
+     * Return the number of entity states currently held in the cache.
+     * @return element count, or -1 if the cache implementation
+     *         cannot determine it
+     */
+    public long getElementCount();
+}
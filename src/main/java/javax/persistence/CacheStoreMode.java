@@ -21,7 +21,8 @@ package javax.persistence;
  * Used as the value of the
  * <code>javax.persistence.cache.storeMode</code> property to specify
  * the behavior when data is read from the database and when data is
- * committed into the database.
+ * committed into the database.  When set on a cacheable query, it
+ * also applies to the query result cache.
  *
  * @since Java Persistence 2.0
  */
@@ -17,10 +17,14 @@
 
 package javax.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import javax.persistence.metamodel.Metamodel;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
 
 /**
  * Interface used to interact with the persistence context.
@@ -92,6 +96,77 @@ public interface EntityManager {
      */
     public void remove(Object entity);
 
+    /**
+     * Make the given instances managed and persistent.
+     * The effect is the same as calling <code>persist</code> on
+     * each instance, in iteration order, except that the provider
+     * may group the resulting inserts by entity type.
+     * If a batch size has been set and a transaction is active, the
+     * persistence context is flushed each time that number of
+     * instances has been made persistent; without a transaction,
+     * the inserts are deferred until the persistence context is
+     * joined to a transaction.  Callers processing large volumes of data
+     * should pass the instances in chunks and <code>clear</code>
+     * the persistence context between chunks.
+     * @param entities  entity instances
+     * @throws EntityExistsException if one of the entities already
+     *         exists.
+     *         (The <code>EntityExistsException</code> may be thrown when
+     *         the operation is invoked, or the
+     *         <code>EntityExistsException</code> or another
+     *         <code>PersistenceException</code> may be thrown at flush
+     *         or commit time.)
+     * @throws IllegalArgumentException if one of the instances is
+     *         not an entity
+     * @throws TransactionRequiredException if invoked on a
+     *         container-managed entity manager of type
+     *         <code>PersistenceContextType.TRANSACTION</code> and there is
+     *         no transaction
+     * @see #setBatchSize(int)
+     */
+    public void persistAll(Collection<?> entities);
+
+    /**
+     * Merge the state of the given entities into the
+     * current persistence context.
+     * The effect is the same as calling <code>merge</code> on
+     * each instance, in iteration order, except that the provider
+     * may group the resulting loads and updates by entity type.
+     * If a batch size has been set and a transaction is active, the
+     * persistence context is flushed each time that number of
+     * instances has been merged.
+     * @param entities  entity instances
+     * @return the managed instances that the states were merged to,
+     *         in iteration order of the given instances
+     * @throws IllegalArgumentException if one of the instances is
+     *         not an entity or is a removed entity
+     * @throws TransactionRequiredException if invoked on a
+     *         container-managed entity manager of type
+     *         <code>PersistenceContextType.TRANSACTION</code> and there is
+     *         no transaction
+     * @see #setBatchSize(int)
+     */
+    public <T> List<T> mergeAll(Collection<? extends T> entities);
+
+    /**
+     * Remove the given entity instances.
+     * The effect is the same as calling <code>remove</code> on
+     * each instance, in iteration order, except that the provider
+     * may group the resulting deletes by entity type.
+     * If a batch size has been set and a transaction is active, the
+     * persistence context is flushed each time that number of
+     * instances has been removed.
+     * @param entities  entity instances
+     * @throws IllegalArgumentException if one of the instances is
+     *         not an entity or is a detached entity
+     * @throws TransactionRequiredException if invoked on a
+     *         container-managed entity manager of type
+     *         <code>PersistenceContextType.TRANSACTION</code> and there is
+     *         no transaction
+     * @see #setBatchSize(int)
+     */
+    public void removeAll(Collection<?> entities);
+
     /**
      * Find by primary key.
      * Search for an entity of the specified class and primary key.
@@ -229,6 +304,174 @@ public interface EntityManager {
                       LockModeType lockMode,
                       Map<String, Object> properties);
 
+    /**
+     * Find by primary keys.
+     * Search for the entities of the specified class and primary keys.
+     * Entity instances contained in the persistence context are
+     * returned from there; the remaining ones are looked up in the
+     * second-level cache, if any, before being loaded from the
+     * database in as few round trips as the provider can manage.
+     * @param entityClass  entity class
+     * @param primaryKeys  primary keys
+     * @return the found entity instances, in the order of the
+     *         primary keys and with <code>null</code> for primary
+     *         keys matching no entity unless otherwise specified
+     *         through the <code>javax.persistence.find.ordered</code>
+     *         property
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         null or contains an element which is not a valid type
+     *         for that entity's primary key or is null
+     * @throws EntityNotFoundException if the
+     *         <code>javax.persistence.find.failOnMissing</code>
+     *         property is set to true and a primary key matches no
+     *         entity
+     */
+    public <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys);
+
+    /**
+     * Find by primary keys, using the specified properties.
+     * Search for the entities of the specified class and primary keys.
+     * Entity instances contained in the persistence context are
+     * returned from there; the remaining ones are looked up in the
+     * second-level cache, if any, before being loaded from the
+     * database in as few round trips as the provider can manage.
+     * <p>The following standard properties are defined:
+     * <ul>
+     * <li> <code>javax.persistence.find.batchSize</code>: maximum
+     *    number of primary keys loaded per database round trip
+     *    (<code>Integer</code>, defaults to a provider-specific value)
+     * <li> <code>javax.persistence.find.ordered</code>: whether the
+     *    result list matches the primary keys position by position,
+     *    holding <code>null</code> for primary keys matching no entity.
+     *    When set to false, the found instances are returned in any
+     *    order and missing ones are omitted (<code>Boolean</code>,
+     *    defaults to true)
+     * <li> <code>javax.persistence.find.failOnMissing</code>: whether
+     *    <code>EntityNotFoundException</code> is thrown when a primary
+     *    key matches no entity (<code>Boolean</code>, defaults to false)
+     * </ul>
+     * <p>If a vendor-specific property or hint is not recognized,
+     * it is silently ignored.
+     * @param entityClass  entity class
+     * @param primaryKeys  primary keys
+     * @param properties  standard and vendor-specific properties
+     *        and hints
+     * @return the found entity instances, in the order of the
+     *         primary keys and with <code>null</code> for primary
+     *         keys matching no entity unless otherwise specified
+     *         through the <code>javax.persistence.find.ordered</code>
+     *         property
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         null or contains an element which is not a valid type
+     *         for that entity's primary key or is null
+     * @throws EntityNotFoundException if the
+     *         <code>javax.persistence.find.failOnMissing</code>
+     *         property is set to true and a primary key matches no
+     *         entity
+     */
+    public <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys,
+                               Map<String, Object> properties);
+
+    /**
+     * Find by primary keys and lock.
+     * Search for the entities of the specified class and primary keys
+     * and lock them with respect to the specified lock type.
+     * Entity instances contained in the persistence context are
+     * returned from there, and the effect of this method on them is
+     * the same as if the lock method had been called on each of them.
+     * <p>If the lock mode type is pessimistic and an entity instance
+     * is found but cannot be locked:
+     * <ul>
+     * <li> the <code>PessimisticLockException</code> will be thrown if the database
+     *    locking failure causes transaction-level rollback
+     * <li> the <code>LockTimeoutException</code> will be thrown if the database
+     *    locking failure causes only statement-level rollback
+     * </ul>
+     * @param entityClass  entity class
+     * @param primaryKeys  primary keys
+     * @param lockMode  lock mode
+     * @return the found entity instances, in the order of the
+     *         primary keys and with <code>null</code> for primary
+     *         keys matching no entity unless otherwise specified
+     *         through the <code>javax.persistence.find.ordered</code>
+     *         property
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         null or contains an element which is not a valid type
+     *         for that entity's primary key or is null
+     * @throws EntityNotFoundException if the
+     *         <code>javax.persistence.find.failOnMissing</code>
+     *         property is set to true and a primary key matches no
+     *         entity
+     * @throws TransactionRequiredException if there is no
+     *         transaction and a lock mode other than <code>NONE</code> is
+     *         specified
+     * @throws OptimisticLockException if the optimistic version
+     *         check fails
+     * @throws PessimisticLockException if pessimistic locking
+     *         fails and the transaction is rolled back
+     * @throws LockTimeoutException if pessimistic locking fails and
+     *         only the statement is rolled back
+     * @throws PersistenceException if an unsupported lock call
+     *         is made
+     */
+    public <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys,
+                               LockModeType lockMode);
+
+    /**
+     * Find by primary keys and lock, using the specified properties.
+     * Search for the entities of the specified class and primary keys
+     * and lock them with respect to the specified lock type.
+     * Entity instances contained in the persistence context are
+     * returned from there.
+     * <p>If the lock mode type is pessimistic and an entity instance
+     * is found but cannot be locked:
+     * <ul>
+     * <li> the <code>PessimisticLockException</code> will be thrown if the database
+     *    locking failure causes transaction-level rollback
+     * <li> the <code>LockTimeoutException</code> will be thrown if the database
+     *    locking failure causes only statement-level rollback
+     * </ul>
+     * <p>The standard properties are the ones defined for
+     * {@link #findAll(Class, Collection, Map)}.
+     * If a vendor-specific property or hint is not recognized,
+     * it is silently ignored.
+     * @param entityClass  entity class
+     * @param primaryKeys  primary keys
+     * @param lockMode  lock mode
+     * @param properties  standard and vendor-specific properties
+     *        and hints
+     * @return the found entity instances, in the order of the
+     *         primary keys and with <code>null</code> for primary
+     *         keys matching no entity unless otherwise specified
+     *         through the <code>javax.persistence.find.ordered</code>
+     *         property
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         null or contains an element which is not a valid type
+     *         for that entity's primary key or is null
+     * @throws EntityNotFoundException if the
+     *         <code>javax.persistence.find.failOnMissing</code>
+     *         property is set to true and a primary key matches no
+     *         entity
+     * @throws TransactionRequiredException if there is no
+     *         transaction and a lock mode other than <code>NONE</code> is
+     *         specified
+     * @throws OptimisticLockException if the optimistic version
+     *         check fails
+     * @throws PessimisticLockException if pessimistic locking
+     *         fails and the transaction is rolled back
+     * @throws LockTimeoutException if pessimistic locking fails and
+     *         only the statement is rolled back
+     * @throws PersistenceException if an unsupported lock call
+     *         is made
+     */
+    public <T> List<T> findAll(Class<T> entityClass, Collection<?> primaryKeys,
+                               LockModeType lockMode,
+                               Map<String, Object> properties);
+
     /**
      * Get an instance, whose state may be lazily fetched.
      * If the requested instance does not exist in the database,
@@ -275,6 +518,51 @@ public interface EntityManager {
      */
     public FlushModeType getFlushMode();
 
+    /**
+     * Set the batch size used for the persistence context.
+     * When flushing, the provider groups the insert, update and
+     * delete statements of the same entity type in batches of at
+     * most that many statements.  The bulk operations
+     * <code>persistAll</code>, <code>mergeAll</code> and
+     * <code>removeAll</code> also flush the persistence context each
+     * time that many instances have been processed, provided a
+     * transaction is active; they never flush outside a
+     * transaction.
+     * @param batchSize  batch size, 0 to let the provider decide,
+     *        1 to execute each statement immediately
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    public void setBatchSize(int batchSize);
+
+    /**
+     * Get the batch size used for the persistence context.
+     * @return batch size, 0 if it has not been set
+     */
+    public int getBatchSize();
+
+    /**
+     * Set whether the entities loaded into the persistence context,
+     * by the <code>find</code> methods, by queries or by navigating
+     * relationships, are loaded in read-only mode.  The provider
+     * does not keep a snapshot of the state of read-only entities
+     * and does not check them for changes at flush time: changes
+     * made to them are not synchronized to the database.  Entities
+     * already managed by the persistence context are not affected.
+     * <p>This mode can be overridden for a query through
+     * <code>Query.setReadOnly</code>, and for a <code>find</code>
+     * operation through the <code>javax.persistence.readOnly</code>
+     * property.  It can also be enabled when the entity manager is
+     * created by passing this property to the entity manager factory.
+     * @param readOnly  whether entities are loaded in read-only mode
+     */
+    public void setReadOnly(boolean readOnly);
+
+    /**
+     * Whether entities are loaded in read-only mode by default.
+     * @return true if entities are loaded in read-only mode
+     */
+    public boolean isReadOnly();
+
     /**
      * Lock an entity instance that is contained in the persistence
      * context with the specified lock mode type.
@@ -557,6 +845,39 @@ public interface EntityManager {
      */
     public <T> TypedQuery<T> createQuery(CriteriaQuery<T> criteriaQuery);
 
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * query prepared by the entity manager factory.  The query is not
+     * translated again.
+     * @param preparedQuery  prepared query
+     * @return the new query instance
+     * @throws IllegalArgumentException if the prepared query was not
+     *         prepared by the entity manager factory of the entity
+     *         manager
+     * @see EntityManagerFactory#prepareQuery(CriteriaQuery)
+     */
+    public <T> TypedQuery<T> createQuery(PreparedQuery<T> preparedQuery);
+
+    /**
+     * Create an instance of <code>Query</code> for executing a
+     * criteria update query.
+     * @param updateQuery  a criteria update query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the update query is
+     *         found to be invalid against the metamodel
+     */
+    public Query createQuery(CriteriaUpdate updateQuery);
+
+    /**
+     * Create an instance of <code>Query</code> for executing a
+     * criteria delete query.
+     * @param deleteQuery  a criteria delete query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the delete query is
+     *         found to be invalid against the metamodel
+     */
+    public Query createQuery(CriteriaDelete deleteQuery);
+
     /**
      * Create an instance of <code>TypedQuery</code> for executing a
      * Java Persistence query language statement.
@@ -722,4 +1043,54 @@ public interface EntityManager {
      * @since Java Persistence 2.0
      */
     public Metamodel getMetamodel();
+
+    /**
+     * Create a new, mutable fetch plan for the given entity type.
+     * @param rootType  entity class
+     * @return fetch plan instance
+     * @throws IllegalArgumentException if the argument does not
+     *         denote an entity type
+     * @throws IllegalStateException if the entity manager has
+     *         been closed
+     * @see FetchPlan
+     */
+    public <T> FetchPlan<T> createFetchPlan(Class<T> rootType);
+
+    /**
+     * Create a new, mutable copy of the named fetch plan.
+     * @param planName  name of a fetch plan declared through
+     *        <code>NamedFetchPlan</code>
+     * @return fetch plan instance
+     * @throws IllegalArgumentException if there is no fetch plan
+     *         of the given name
+     * @throws IllegalStateException if the entity manager has
+     *         been closed
+     */
+    public FetchPlan<?> createFetchPlan(String planName);
+
+    /**
+     * Return the named fetch plan.  The returned instance is
+     * immutable and may be shared by entity managers of the
+     * same factory.
+     * @param planName  name of a fetch plan declared through
+     *        <code>NamedFetchPlan</code>
+     * @return fetch plan instance
+     * @throws IllegalArgumentException if there is no fetch plan
+     *         of the given name
+     * @throws IllegalStateException if the entity manager has
+     *         been closed
+     */
+    public FetchPlan<?> getFetchPlan(String planName);
+
+    /**
+     * Return the named fetch plans applicable to the given entity
+     * type, including the ones declared for its superclasses.
+     * @param entityClass  entity class
+     * @return immutable fetch plan instances, empty if none
+     * @throws IllegalArgumentException if the argument does not
+     *         denote an entity type
+     * @throws IllegalStateException if the entity manager has
+     *         been closed
+     */
+    public <T> List<FetchPlan<? super T>> getFetchPlans(Class<T> entityClass);
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ package javax.persistence;
 import java.util.Map;
 import javax.persistence.metamodel.Metamodel;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
 
 /**
  * Interface used to interact with the entity manager factory
@@ -59,6 +60,29 @@ public interface EntityManagerFactory {
      */
     public EntityManager createEntityManager(Map map);
 
+    /**
+     * Create a new application-managed <code>StatelessEntityManager</code>,
+     * to read and write entities without a persistence context.
+     * This method returns a new <code>StatelessEntityManager</code>
+     * instance each time it is invoked.
+     * @return stateless entity manager instance
+     * @throws IllegalStateException if the entity manager factory
+     * has been closed
+     */
+    public StatelessEntityManager createStatelessEntityManager();
+
+    /**
+     * Create a new application-managed <code>StatelessEntityManager</code>
+     * with the specified Map of properties.
+     * This method returns a new <code>StatelessEntityManager</code>
+     * instance each time it is invoked.
+     * @param map properties for the stateless entity manager
+     * @return stateless entity manager instance
+     * @throws IllegalStateException if the entity manager factory
+     * has been closed
+     */
+    public StatelessEntityManager createStatelessEntityManager(Map map);
+
     /**
      * Return an instance of <code>CriteriaBuilder</code> for the creation of
      * <code>CriteriaQuery</code> objects.
@@ -70,6 +94,42 @@ public interface EntityManagerFactory {
      */
     public CriteriaBuilder getCriteriaBuilder();
 
+    /**
+     * Translate a criteria query once into an immutable, thread-safe
+     * query reusable by all the entity managers of the factory.
+     * Subsequent changes to the criteria query do not affect the
+     * prepared query.
+     * @param criteriaQuery  criteria query object
+     * @return prepared query
+     * @throws IllegalArgumentException if the criteria query is
+     *         found to be invalid
+     * @throws IllegalStateException if the entity manager factory
+     * has been closed
+     * @see PreparedQuery
+     */
+    public <T> PreparedQuery<T> prepareQuery(CriteriaQuery<T> criteriaQuery);
+
+    /**
+     * Register a query as a named query, as if it had been declared
+     * through the <code>NamedQuery</code> or <code>NamedNativeQuery</code>
+     * annotation, so that it is parsed and validated once and can then
+     * be obtained through <code>EntityManager.createNamedQuery</code>.
+     * <p>The query may be a Java Persistence query language, criteria or
+     * native query obtained from any entity manager of the factory.  Its
+     * configuration in effect when this method is called (maximum
+     * results, first result, hints, flush mode and lock mode) is part of
+     * the named query; the values bound to its parameters are not.
+     * Subsequent changes to the query object do not affect the named query.
+     * <p>If a named query of the same name already exists, it is replaced.
+     * @param name  name for the query
+     * @param query  query object
+     * @throws IllegalArgumentException if the query was not created
+     *         from an entity manager of the factory
+     * @throws IllegalStateException if the entity manager factory
+     * has been closed
+     */
+    public void addNamedQuery(String name, Query query);
+
     /**
      * Return an instance of <code>Metamodel</code> interface for access to the
      * metamodel of the persistence unit.
@@ -133,4 +193,15 @@ public interface EntityManagerFactory {
      * @since Java Persistence 2.0
      */
     public PersistenceUnitUtil getPersistenceUnitUtil();
+
+    /**
+     * Indicates whether the entity managers created by the factory
+     * can be used from threads following the given execution model.
+     * @param executionModel  execution model
+     * @return boolean indicating whether the execution model is
+     *         supported
+     * @throws IllegalStateException if the entity manager factory
+     * has been closed
+     */
+    public boolean supports(ExecutionModel executionModel);
 }
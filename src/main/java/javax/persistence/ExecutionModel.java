@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+/**
+ * Threading models an entity manager factory may support for the
+ * threads invoking its entity managers.
+ * <p> The execution model required by the application is passed
+ * to the provider through the <code>javax.persistence.executionModel</code>
+ * property, when the entity manager factory is created, with an
+ * <code>ExecutionModel</code> instance or its name as value.
+ *
+ * @see EntityManagerFactory#supports(ExecutionModel)
+ */
+public enum ExecutionModel {
+    /**
+     * Entity managers are invoked from platform threads, each
+     * bound to an operating system thread.  Supported by every
+     * provider.
+     */
+    PLATFORM_THREADS,
+
+    /**
+     * Entity managers are invoked from lightweight virtual threads
+     * multiplexed over a few platform threads.  A provider
+     * supporting this model does not block while holding a monitor,
+     * as doing so would pin the carrier thread: it relies on
+     * <code>java.util.concurrent.locks</code> locks instead of
+     * <code>synchronized</code> around JDBC and other blocking I/O.
+     */
+    VIRTUAL_THREADS
+}
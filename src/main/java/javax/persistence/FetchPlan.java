@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.util.List;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.PluralAttribute;
+
+/**
+ * A reusable description of the attributes to load along with an entity.
+ *
+ * <p> A fetch plan is created through
+ * {@link EntityManager#createFetchPlan(Class)}, or declared with the
+ * {@link NamedFetchPlan} annotation and obtained through
+ * {@link EntityManager#getFetchPlan(String)}.  It is applied to the
+ * <code>find</code> methods of <code>EntityManager</code> and to queries
+ * through one of the following properties or hints, whose value is the
+ * fetch plan instance or the name of a named fetch plan:
+ * <ul>
+ * <li> <code>javax.persistence.fetchplan</code>: the attributes of the
+ *    plan are loaded eagerly and all other attributes are treated as
+ *    <code>FetchType.LAZY</code>, regardless of their mapping
+ * <li> <code>javax.persistence.loadplan</code>: the attributes of the
+ *    plan are loaded eagerly and all other attributes keep the fetch
+ *    type of their mapping
+ * </ul>
+ * <p> The provider should load the root entities and the attributes of
+ * the plan with as few database round trips as possible.  The
+ * identifier and version attributes are always loaded.
+ *
+ * <pre>
+ *    FetchPlan&#060;Order&#062; plan = em.createFetchPlan(Order.class);
+ *    plan.addAttribute(Order_.customer).addAttribute(Order_.shippingAddress);
+ *    plan.addSubplan(Order_.lineItems).addAttribute(LineItem_.product);
+ *
+ *    Order order = em.find(Order.class, orderId,
+ *            Collections.&#060;String, Object&#062;singletonMap("javax.persistence.fetchplan", plan));
+ * </pre>
+ *
+ * <p> The <code>FetchPlan</code> instances returned by
+ * <code>getFetchPlan</code> are immutable; the other ones can be modified
+ * until they are first applied.
+ *
+ * @param <T> the type of the root entity
+ * @see NamedFetchPlan
+ * @see FetchPlanNode
+ */
+public interface FetchPlan<T> {
+	/**
+	 * Return the name of the fetch plan.
+	 *
+	 * @return the name of the named fetch plan, or null if the fetch
+	 *         plan was not declared through <code>NamedFetchPlan</code>
+	 */
+	String getName();
+
+	/**
+	 * Return the type of the entity or embeddable the fetch plan
+	 * applies to.
+	 *
+	 * @return root type
+	 */
+	Class<T> getClassType();
+
+	/**
+	 * Add an attribute to be loaded.
+	 *
+	 * @param attribute attribute of the root type
+	 *
+	 * @return the same fetch plan instance
+	 *
+	 * @throws IllegalStateException if the fetch plan is immutable
+	 */
+	FetchPlan<T> addAttribute(Attribute<T, ?> attribute);
+
+	/**
+	 * Add attributes to be loaded, designated by name.
+	 *
+	 * @param attributeNames names of attributes of the root type
+	 *
+	 * @return the same fetch plan instance
+	 *
+	 * @throws IllegalArgumentException if an attribute of the given
+	 * name does not exist in the root type
+	 * @throws IllegalStateException if the fetch plan is immutable
+	 */
+	FetchPlan<T> addAttributes(String... attributeNames);
+
+	/**
+	 * Add an attribute to be loaded and return a plan for the
+	 * attributes of its value.  If the attribute is a collection,
+	 * the plan applies to its elements.
+	 *
+	 * @param attribute relationship or embedded attribute of the root type
+	 *
+	 * @return fetch plan for the attribute value
+	 *
+	 * @throws IllegalArgumentException if the attribute is not a
+	 * relationship or embedded attribute
+	 * @throws IllegalStateException if the fetch plan is immutable
+	 */
+	<X> FetchPlan<X> addSubplan(Attribute<T, X> attribute);
+
+	/**
+	 * Add a collection attribute to be loaded and return a plan
+	 * for the attributes of its elements.
+	 *
+	 * @param attribute collection valued attribute of the root type
+	 *
+	 * @return fetch plan for the collection elements
+	 *
+	 * @throws IllegalArgumentException if the elements are neither
+	 * entities nor embeddables
+	 * @throws IllegalStateException if the fetch plan is immutable
+	 */
+	<E> FetchPlan<E> addSubplan(PluralAttribute<T, ?, E> attribute);
+
+	/**
+	 * Add an attribute to be loaded, designated by name, and return
+	 * a plan for the attributes of its value or elements.
+	 *
+	 * @param attributeName name of a relationship or embedded
+	 * attribute of the root type
+	 *
+	 * @return fetch plan for the attribute value
+	 *
+	 * @throws IllegalArgumentException if an attribute of the given
+	 * name does not exist in the root type or is not a relationship
+	 * or embedded attribute
+	 * @throws IllegalStateException if the fetch plan is immutable
+	 */
+	<X> FetchPlan<X> addSubplan(String attributeName);
+
+	/**
+	 * Return the attributes of the fetch plan.
+	 *
+	 * @return list of attribute nodes, empty if no attribute
+	 *         has been added
+	 */
+	List<FetchPlanNode<?>> getNodes();
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import javax.persistence.metamodel.Attribute;
+
+/**
+ * An attribute of a {@link FetchPlan}.
+ *
+ * @param <T> the type of the attribute
+ */
+public interface FetchPlanNode<T> {
+	/**
+	 * Return the attribute loaded by the fetch plan.
+	 *
+	 * @return attribute
+	 */
+	Attribute<?, T> getAttribute();
+
+	/**
+	 * Return the plan applying to the value of the attribute, or
+	 * to its elements if it is a collection.
+	 *
+	 * @return fetch plan of the attribute value, or null if only
+	 *         the attribute itself is loaded
+	 */
+	FetchPlan<?> getSubplan();
+}
@@ -54,5 +54,55 @@ public enum GenerationType {
      * in the event that it does not support schema generation
      * or cannot create the schema resource at runtime.
      */
-    AUTO
+    AUTO,
+
+    /**
+     * Indicates that the persistence provider must assign
+     * primary keys for the entity by generating time-ordered
+     * UUIDs, without accessing the database.  The 48 most
+     * significant bits of the generated values hold the creation
+     * time in milliseconds since 1970-01-01T00:00:00Z (Unix epoch),
+     * followed by the version (7) and variant bits, the remaining
+     * bits being random.
+     * The primary key must be of type <code>java.util.UUID</code>
+     * or <code>String</code>.
+     */
+    UUID,
+
+    /**
+     * Indicates that the persistence provider must assign
+     * primary keys for the entity by generating time-ordered
+     * 64-bit values, without accessing the database.  From the
+     * most significant bit, generated values hold a zero sign bit,
+     * 41 bits of creation time in milliseconds since the generator
+     * epoch, a 10-bit node number and a 12-bit counter of the values
+     * generated during the same millisecond.
+     * <p>The generator epoch is given, in milliseconds since
+     * 1970-01-01T00:00:00Z, by the <code>javax.persistence.id.epoch</code>
+     * property of the persistence unit, and defaults to
+     * <code>1577836800000</code> (2020-01-01T00:00:00Z), so that
+     * the time field overflows in 2089.  It must not be later than
+     * the current time, and must be the same for all entity manager
+     * factories inserting into the same table.  The provider must
+     * throw <code>PersistenceException</code> rather than generate a
+     * value once the time field would overflow.
+     * <p>The node number is given by the
+     * <code>javax.persistence.id.node</code> property of the
+     * persistence unit, an integer from 0 to 1023 which must be
+     * distinct for each entity manager factory inserting into the
+     * same table.  The property has no default: creating an entity
+     * manager factory for a persistence unit with an entity using
+     * this strategy fails with <code>PersistenceException</code> if
+     * the property is not set or is out of range.
+     * <p>The values generated by an entity manager factory are
+     * strictly increasing.  When the counter is exhausted within a
+     * millisecond, the provider waits for the next millisecond.
+     * When the clock goes backwards, the provider keeps using the
+     * time of the last generated value, waiting for the next
+     * millisecond whenever the counter is exhausted, until the
+     * clock catches up.
+     * <p>The primary key must be of type <code>long</code> or
+     * <code>Long</code>.
+     */
+    TIME_ORDERED
 }
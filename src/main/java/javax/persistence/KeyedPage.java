@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Request for a page of results of a query, located by the key of the
+ * last result of the previous page rather than by an offset.
+ *
+ * <p> The key of a result is the list of the values of the ordering
+ * expressions of the query for that result, in the order in which the
+ * orderings were specified through <code>CriteriaQuery.orderBy</code>.
+ * The next page then consists of the results that follow the key in
+ * that ordering, a restriction which the database can satisfy by
+ * seeking an index on the ordering expressions.  Unlike with
+ * <code>setFirstResult</code>, the cost of fetching a page therefore
+ * does not grow with the number of results that precede it.
+ *
+ * <p> The orderings must determine a total order of the results, which
+ * is typically achieved by ordering last by the identifier of the
+ * entity, and the ordering expressions must not evaluate to null for
+ * any result, since a null key value matches no next-page restriction.
+ * Keys therefore never contain null values.  Under these conditions,
+ * rows inserted or deleted between page requests do not cause results
+ * to be skipped or repeated.
+ *
+ * <pre>
+ *     KeyedPage page = KeyedPage.first(100);
+ *     while (page != null) {
+ *         KeyedResultList&#060;Customer&#062; results = query.getKeyedResultList(page);
+ *         process(results.getResultList());
+ *         page = results.getNextPage();
+ *     }
+ * </pre>
+ *
+ * <p> Instances of this class are immutable.
+ *
+ * @see TypedQuery#getKeyedResultList(KeyedPage)
+ * @see KeyedResultList
+ */
+public final class KeyedPage implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int maxResults;
+	private final List<Object> key;
+
+	private KeyedPage(int maxResults, List<Object> key) {
+		if ( maxResults <= 0 ) {
+			throw new IllegalArgumentException( "maxResults must be positive: " + maxResults );
+		}
+		this.maxResults = maxResults;
+		this.key = key;
+	}
+
+	/**
+	 * Request the first page of results.
+	 *
+	 * @param maxResults the maximum number of results of the page
+	 *
+	 * @return the page request
+	 *
+	 * @throws IllegalArgumentException if the argument is not positive
+	 */
+	public static KeyedPage first(int maxResults) {
+		return new KeyedPage( maxResults, null );
+	}
+
+	/**
+	 * Request the page of results which follow the result of the
+	 * given key.
+	 *
+	 * @param key the values of the ordering expressions of the last
+	 * result of the previous page
+	 * @param maxResults the maximum number of results of the page
+	 *
+	 * @return the page request
+	 *
+	 * @throws IllegalArgumentException if the key is null or empty,
+	 * if it contains a null value, or if the maximum number of results
+	 * is not positive
+	 */
+	public static KeyedPage after(List<?> key, int maxResults) {
+		if ( key == null || key.isEmpty() ) {
+			throw new IllegalArgumentException( "key must not be null or empty" );
+		}
+		if ( key.contains( null ) ) {
+			throw new IllegalArgumentException( "key must not contain null values: " + key );
+		}
+		return new KeyedPage( maxResults, Collections.unmodifiableList( new ArrayList<Object>( key ) ) );
+	}
+
+	/**
+	 * Request the page of results which follow the result of the
+	 * given key, of the same size as this page.
+	 *
+	 * @param key the values of the ordering expressions of the last
+	 * result of this page
+	 *
+	 * @return the page request
+	 *
+	 * @throws IllegalArgumentException if the key is null or empty,
+	 * or if it contains a null value
+	 */
+	public KeyedPage next(List<?> key) {
+		return after( key, maxResults );
+	}
+
+	/**
+	 * The maximum number of results of the page.
+	 *
+	 * @return maximum number of results
+	 */
+	public int getMaxResults() {
+		return maxResults;
+	}
+
+	/**
+	 * The key of the last result of the previous page.
+	 *
+	 * @return the key, or null for the first page
+	 */
+	public List<Object> getKey() {
+		return key;
+	}
+
+	/**
+	 * Whether this is a request for the first page of results.
+	 *
+	 * @return true if the page has no key
+	 */
+	public boolean isFirst() {
+		return key == null;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( !( other instanceof KeyedPage ) ) {
+			return false;
+		}
+		KeyedPage that = (KeyedPage) other;
+		return maxResults == that.maxResults
+				&& ( key == null ? that.key == null : key.equals( that.key ) );
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * maxResults + ( key == null ? 0 : key.hashCode() );
+	}
+
+	@Override
+	public String toString() {
+		return "KeyedPage[maxResults=" + maxResults + ", key=" + key + "]";
+	}
+}
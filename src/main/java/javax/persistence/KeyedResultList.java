@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.util.List;
+
+/**
+ * A page of query results obtained through keyset pagination,
+ * together with the key from which the next page continues.
+ *
+ * @param <X> query result type
+ * @see TypedQuery#getKeyedResultList(KeyedPage)
+ * @see KeyedPage
+ */
+public interface KeyedResultList<X> {
+	/**
+	 * The results of the page.
+	 *
+	 * @return list of the results, at most as many as the
+	 * maximum number of results of the page
+	 */
+	List<X> getResultList();
+
+	/**
+	 * The page request the results were obtained for.
+	 *
+	 * @return the page request
+	 */
+	KeyedPage getPage();
+
+	/**
+	 * The values of the ordering expressions of the last result
+	 * of the page.
+	 *
+	 * @return the key of the last result, or null if the page
+	 * is empty
+	 */
+	List<Object> getKeyOfLastResult();
+
+	/**
+	 * Whether further results follow the results of the page.
+	 *
+	 * @return true if there is a next page
+	 */
+	boolean hasNextPage();
+
+	/**
+	 * The request for the page which follows this one, of the
+	 * same size.
+	 *
+	 * @return the next page request, or null if there is no
+	 * next page
+	 *
+	 * @throws IllegalStateException if an ordering expression
+	 * evaluated to null for the last result of the page
+	 */
+	KeyedPage getNextPage();
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies a named {@link FetchPlan} for the annotated entity.
+ * Fetch plan names are scoped to the persistence unit.
+ *
+ * <pre>
+ *    &#064;NamedFetchPlan(
+ *            name="Order.withLineItems",
+ *            attributes={
+ *                &#064;NamedFetchPlanNode("customer"),
+ *                &#064;NamedFetchPlanNode(value="lineItems", subplan="lineItems")
+ *            },
+ *            subplans=&#064;NamedFetchSubplan(
+ *                name="lineItems",
+ *                attributes=&#064;NamedFetchPlanNode("product")
+ *            )
+ *    )
+ *    &#064;Entity
+ *    public class Order { ... }
+ *
+ *    orders = em.createNamedQuery("Order.recent")
+ *            .setHint("javax.persistence.fetchplan", "Order.withLineItems")
+ *            .getResultList();
+ * </pre>
+ *
+ * @see FetchPlan
+ * @see EntityManager#getFetchPlan(String)
+ */
+@Target({TYPE})
+@Retention(RUNTIME)
+public @interface NamedFetchPlan {
+    /**
+     * (Required) The name used to refer to the fetch plan.
+     */
+    String name();
+
+    /**
+     * (Optional) The attributes of the entity loaded by the fetch plan.
+     */
+    NamedFetchPlanNode[] attributes() default {};
+
+    /**
+     * (Optional) The subplans referenced by the attributes of the fetch
+     * plan or of other subplans.
+     */
+    NamedFetchSubplan[] subplans() default {};
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies the attributes loaded along with the value of an attribute
+ * of a {@link NamedFetchPlan}.  Subplan names are scoped to the
+ * enclosing <code>NamedFetchPlan</code>.
+ */
+@Target({})
+@Retention(RUNTIME)
+public @interface NamedFetchSubplan {
+    /**
+     * (Required) The name used to refer to the subplan from
+     * {@link NamedFetchPlanNode#subplan()}.
+     */
+    String name();
+
+    /**
+     * (Optional) The type of the attribute value.  Only required to
+     * designate a subclass of the declared attribute type.
+     */
+    Class type() default void.class;
+
+    /**
+     * (Required) The attributes loaded by the subplan.
+     */
+    NamedFetchPlanNode[] attributes();
+}
@@ -17,13 +17,21 @@
 
 package javax.persistence;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.persistence.spi.LoadState;
 import javax.persistence.spi.PersistenceProvider;
 import javax.persistence.spi.PersistenceProviderResolverHolder;
+import javax.persistence.spi.ProviderUtil;
 
 /**
  * Bootstrap class that provides access to an EntityManagerFactory.
@@ -84,14 +92,26 @@ public class Persistence {
 		return util;
 	}
 
+	private static final ProviderAffinity providerAffinity = new ProviderAffinity();
+
+	private static final BulkLoadStateSupport bulkLoadStateSupport = new BulkLoadStateSupport();
+
 	private static PersistenceUtil util =
-			//TODO add an Hibernate specific optimization
 		new PersistenceUtil() {
 			public boolean isLoaded(Object entity, String attributeName) {
 				List<PersistenceProvider> providers = Persistence.getProviders();
+				final PersistenceProvider knownProvider = providerAffinity.get( entity, providers );
+				if ( knownProvider != null ) {
+					final LoadState state = knownProvider.getProviderUtil().isLoadedWithoutReference( entity, attributeName );
+					if ( state != LoadState.UNKNOWN ) {
+						return state == LoadState.LOADED;
+					}
+				}
 				for ( PersistenceProvider provider : providers ) {
+					if ( provider == knownProvider ) continue;
 					final LoadState state = provider.getProviderUtil().isLoadedWithoutReference( entity, attributeName );
 					if ( state == LoadState.UNKNOWN ) continue;
+					providerAffinity.put( entity, provider );
 					return state == LoadState.LOADED;
 				}
 				for ( PersistenceProvider provider : providers ) {
@@ -102,14 +122,270 @@ public class Persistence {
 				return true;
 			}
 
+			public BitSet getLoadedAttributes(Object entity, List<String> attributeNames) {
+				final BitSet loadedAttributes = new BitSet( attributeNames.size() );
+				List<PersistenceProvider> providers = Persistence.getProviders();
+				final PersistenceProvider knownProvider = providerAffinity.get( entity, providers );
+				if ( knownProvider != null ) {
+					final LoadState state = isLoadedWithoutReference(
+							knownProvider.getProviderUtil(), entity, attributeNames, loadedAttributes
+					);
+					if ( state != LoadState.UNKNOWN ) {
+						return loadedAttributes;
+					}
+				}
+				for ( PersistenceProvider provider : providers ) {
+					if ( provider == knownProvider ) continue;
+					final LoadState state = isLoadedWithoutReference(
+							provider.getProviderUtil(), entity, attributeNames, loadedAttributes
+					);
+					if ( state == LoadState.UNKNOWN ) continue;
+					providerAffinity.put( entity, provider );
+					return loadedAttributes;
+				}
+				for ( PersistenceProvider provider : providers ) {
+					final LoadState state = isLoadedWithReference(
+							provider.getProviderUtil(), entity, attributeNames, loadedAttributes
+					);
+					if ( state == LoadState.UNKNOWN ) continue;
+					return loadedAttributes;
+				}
+				//same as isLoaded(Object, String): unknown to every provider means loaded
+				loadedAttributes.set( 0, attributeNames.size() );
+				return loadedAttributes;
+			}
+
 			public boolean isLoaded(Object object) {
 				List<PersistenceProvider> providers = Persistence.getProviders();
+				final PersistenceProvider knownProvider = providerAffinity.get( object, providers );
+				if ( knownProvider != null ) {
+					final LoadState state = knownProvider.getProviderUtil().isLoaded( object );
+					if ( state != LoadState.UNKNOWN ) {
+						return state == LoadState.LOADED;
+					}
+				}
 				for ( PersistenceProvider provider : providers ) {
+					if ( provider == knownProvider ) continue;
 					final LoadState state = provider.getProviderUtil().isLoaded( object );
 					if ( state == LoadState.UNKNOWN ) continue;
+					providerAffinity.put( object, provider );
 					return state == LoadState.LOADED;
 				}
 				return true;
 			}
 		};
+
+	/**
+	 * Calls the bulk <code>isLoadedWithoutReference</code> of the provider, falling back to one
+	 * call per attribute for a provider compiled against Java Persistence 2.0, which does not
+	 * implement the bulk method.
+	 */
+	private static LoadState isLoadedWithoutReference(ProviderUtil providerUtil, Object entity,
+			List<String> attributeNames, BitSet loadedAttributes) {
+		if ( bulkLoadStateSupport.isSupported( providerUtil ) ) {
+			return providerUtil.isLoadedWithoutReference( entity, attributeNames, loadedAttributes );
+		}
+		return isLoadedPerAttribute( providerUtil, false, entity, attributeNames, loadedAttributes );
+	}
+
+	/**
+	 * Calls the bulk <code>isLoadedWithReference</code> of the provider, falling back to one
+	 * call per attribute for a provider compiled against Java Persistence 2.0, which does not
+	 * implement the bulk method.
+	 */
+	private static LoadState isLoadedWithReference(ProviderUtil providerUtil, Object entity,
+			List<String> attributeNames, BitSet loadedAttributes) {
+		if ( bulkLoadStateSupport.isSupported( providerUtil ) ) {
+			return providerUtil.isLoadedWithReference( entity, attributeNames, loadedAttributes );
+		}
+		return isLoadedPerAttribute( providerUtil, true, entity, attributeNames, loadedAttributes );
+	}
+
+	/**
+	 * Implements the contract of the bulk <code>ProviderUtil</code> methods on top of the
+	 * per attribute ones: <code>loadedAttributes</code> is left untouched unless the provider
+	 * knows the load state of every attribute.
+	 */
+	private static LoadState isLoadedPerAttribute(ProviderUtil providerUtil, boolean withReference, Object entity,
+			List<String> attributeNames, BitSet loadedAttributes) {
+		final BitSet loaded = new BitSet( attributeNames.size() );
+		for ( int i = 0; i < attributeNames.size(); i++ ) {
+			final LoadState state = withReference
+					? providerUtil.isLoadedWithReference( entity, attributeNames.get( i ) )
+					: providerUtil.isLoadedWithoutReference( entity, attributeNames.get( i ) );
+			if ( state == LoadState.UNKNOWN ) {
+				return LoadState.UNKNOWN;
+			}
+			if ( state == LoadState.LOADED ) {
+				loaded.set( i );
+			}
+		}
+		loadedAttributes.or( loaded );
+		return loaded.cardinality() == attributeNames.size() ? LoadState.LOADED : LoadState.NOT_LOADED;
+	}
+
+	/**
+	 * Remembers, per entity class, the provider which last determined the load state of
+	 * one of its instances so that this provider is asked first next time.
+	 * <p/>
+	 * Only answers obtained without reference are memoized: asking a provider with
+	 * reference is only safe once every provider has answered <code>UNKNOWN</code>
+	 * without reference.
+	 * <p/>
+	 * Neither the entity classes nor the providers are strongly referenced so that
+	 * redeployed classloaders can be reclaimed.
+	 */
+	private static class ProviderAffinity {
+		private final ConcurrentMap<Object, WeakReference<Class<?>>> providersPerClass =
+				new ConcurrentHashMap<Object, WeakReference<Class<?>>>();
+		private final ReferenceQueue<Class<?>> collectedClasses = new ReferenceQueue<Class<?>>();
+
+		/**
+		 * @return the provider among the given ones which was last used for the class of
+		 *         the given entity, null if none
+		 */
+		PersistenceProvider get(Object entity, List<PersistenceProvider> providers) {
+			if ( entity == null ) {
+				return null;
+			}
+			final WeakReference<Class<?>> reference = providersPerClass.get( new ClassLookupKey( entity.getClass() ) );
+			final Class<?> knownProviderClass = reference == null ? null : reference.get();
+			if ( knownProviderClass == null ) {
+				return null;
+			}
+			//the resolver may have been changed or cleared since
+			for ( PersistenceProvider provider : providers ) {
+				if ( provider.getClass() == knownProviderClass ) {
+					return provider;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Only registers a new weak key when the entity class is not mapped yet, so that
+		 * misses on a class already mapped to another provider do not churn references.
+		 */
+		void put(Object entity, PersistenceProvider provider) {
+			if ( entity == null ) {
+				return;
+			}
+			final Class<?> providerClass = provider.getClass();
+			final ClassLookupKey lookupKey = new ClassLookupKey( entity.getClass() );
+			final WeakReference<Class<?>> known = providersPerClass.get( lookupKey );
+			if ( known != null ) {
+				if ( known.get() != providerClass ) {
+					providersPerClass.replace( lookupKey, known, new WeakReference<Class<?>>( providerClass ) );
+				}
+				return;
+			}
+			Reference<? extends Class<?>> collected;
+			while ( ( collected = collectedClasses.poll() ) != null ) {
+				providersPerClass.remove( collected );
+			}
+			providersPerClass.putIfAbsent(
+					new WeakClassKey( entity.getClass(), collectedClasses ),
+					new WeakReference<Class<?>>( providerClass )
+			);
+		}
+	}
+
+	/**
+	 * Remembers, per <code>ProviderUtil</code> class, whether the bulk load state methods
+	 * are implemented, so that providers compiled against Java Persistence 2.0 are directly
+	 * asked one attribute at a time.
+	 * <p/>
+	 * This is determined once per class through reflection rather than by catching
+	 * <code>AbstractMethodError</code>, which would cost a stack trace per call and would
+	 * hide such errors raised by the bulk implementation of a provider.
+	 */
+	private static class BulkLoadStateSupport {
+		private final ConcurrentMap<Object, Boolean> supportPerClass = new ConcurrentHashMap<Object, Boolean>();
+		private final ReferenceQueue<Class<?>> collectedClasses = new ReferenceQueue<Class<?>>();
+
+		boolean isSupported(ProviderUtil providerUtil) {
+			final Class<?> type = providerUtil.getClass();
+			final Boolean known = supportPerClass.get( new ClassLookupKey( type ) );
+			if ( known != null ) {
+				return known;
+			}
+			final boolean supported = implementsBulkMethods( type );
+			Reference<? extends Class<?>> collected;
+			while ( ( collected = collectedClasses.poll() ) != null ) {
+				supportPerClass.remove( collected );
+			}
+			supportPerClass.putIfAbsent( new WeakClassKey( type, collectedClasses ), supported );
+			return supported;
+		}
+
+		private static boolean implementsBulkMethods(Class<?> type) {
+			try {
+				//the abstract interface methods are returned when the class does not implement them
+				return !Modifier.isAbstract(
+						type.getMethod( "isLoadedWithoutReference", Object.class, List.class, BitSet.class ).getModifiers()
+				) && !Modifier.isAbstract(
+						type.getMethod( "isLoadedWithReference", Object.class, List.class, BitSet.class ).getModifiers()
+				);
+			}
+			catch ( NoSuchMethodException e ) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Weak key of the class keyed maps, using the class identity.
+	 */
+	private static final class WeakClassKey extends WeakReference<Class<?>> {
+		private final int hash;
+
+		WeakClassKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+			super( type, queue );
+			this.hash = System.identityHashCode( type );
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			final Class<?> type = get();
+			if ( type == null ) {
+				return false;
+			}
+			if ( other instanceof WeakClassKey ) {
+				return type == ( (WeakClassKey) other ).get();
+			}
+			return other instanceof ClassLookupKey && type == ( (ClassLookupKey) other ).type;
+		}
+	}
+
+	/**
+	 * Short lived key used to look up the class keyed maps without registering a reference.
+	 */
+	private static final class ClassLookupKey {
+		private final Class<?> type;
+
+		ClassLookupKey(Class<?> type) {
+			this.type = type;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( type );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( other instanceof ClassLookupKey ) {
+				return type == ( (ClassLookupKey) other ).type;
+			}
+			return other instanceof WeakClassKey && type == ( (WeakClassKey) other ).get();
+		}
+	}
 }
@@ -17,6 +17,9 @@
 
 package javax.persistence;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Utility interface between the application and the persistence
  * provider managing the persistence unit.
@@ -41,6 +44,21 @@ public interface PersistenceUnitUtil extends PersistenceUtil {
 	 */
 	public boolean isLoaded(Object entity, String attributeName);
 
+	/**
+	 * Determine the load state of several persistent attributes
+	 * of an entity belonging to the persistence unit at once.
+	 *
+	 * @param entity entity instance containing the attributes
+	 * @param attributeNames names of attributes whose load state is
+	 * to be determined
+	 *
+	 * @return bit set in which the bit at index <code>i</code> is set
+	 *         if the state of the attribute at index <code>i</code> in
+	 *         <code>attributeNames</code> has been loaded; no bit is
+	 *         set if entity's state has not been loaded
+	 */
+	public BitSet getLoadedAttributes(Object entity, List<String> attributeNames);
+
 	/**
 	 * Determine the load state of an entity belonging to the
 	 * persistence unit.  This method can be used to determine the
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.util.Set;
+
+/**
+ * A criteria query translated once by the persistence provider and
+ * reusable across the entity managers of the entity manager factory
+ * which prepared it.
+ *
+ * <p> A <code>PreparedQuery</code> is immutable and thread-safe.  It is
+ * obtained through {@link EntityManagerFactory#prepareQuery} and executed
+ * by creating a <code>TypedQuery</code> through
+ * {@link EntityManager#createQuery(PreparedQuery)}, on which the values of
+ * the query parameters are bound:
+ *
+ * <pre>
+ *    CriteriaBuilder cb = emf.getCriteriaBuilder();
+ *    CriteriaQuery&#060;Customer&#062; criteria = cb.createQuery(Customer.class);
+ *    Root&#060;Customer&#062; customer = criteria.from(Customer.class);
+ *    ParameterExpression&#060;String&#062; name = cb.parameter(String.class, "name");
+ *    criteria.where(cb.like(customer.get(Customer_.name), name));
+ *    PreparedQuery&#060;Customer&#062; customersByName = emf.prepareQuery(criteria);
+ *    ...
+ *    List&#060;Customer&#062; customers = em.createQuery(customersByName)
+ *            .setParameter(name, "Smi%")
+ *            .getResultList();
+ * </pre>
+ *
+ * @param <T> query result type
+ */
+public interface PreparedQuery<T> {
+	/**
+	 * Return the type of the query results.
+	 *
+	 * @return result type
+	 */
+	Class<T> getResultType();
+
+	/**
+	 * Return the parameters of the query.
+	 *
+	 * @return parameter objects, empty if the query has no
+	 *         parameters
+	 */
+	Set<Parameter<?>> getParameters();
+}
@@ -22,10 +22,31 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  * Interface used to control query execution.
  *
+ * <p> The results of a SELECT query are cached in the query result
+ * cache associated with the entity manager factory when the
+ * <code>javax.persistence.query.cacheable</code> hint is set to true,
+ * through <code>setHint</code> or through a <code>QueryHint</code>
+ * of the <code>NamedQuery</code> or <code>NamedNativeQuery</code>
+ * annotation.  Cached results are keyed by the query string, the
+ * values bound to its parameters, the first and maximum results
+ * positions and the hints affecting the result.  They are invalidated
+ * by the provider when entities of any of the entity types queried are
+ * inserted, updated or deleted, including through bulk update and
+ * delete statements.  A native query is only cached if the entity
+ * types it depends on are given through the
+ * <code>javax.persistence.query.cacheDependencies</code> hint, as a
+ * <code>Class[]</code> or as a comma separated list of entity names.
+ * The <code>javax.persistence.cache.retrieveMode</code> and
+ * <code>javax.persistence.cache.storeMode</code> hints apply to the
+ * query result cache as they do to the second-level cache.  Queries
+ * using a lock mode other than <code>NONE</code> are never cached.
+ *
  * @see TypedQuery
  * @see Parameter
  * @since Java Persistence 1.0
@@ -55,6 +76,111 @@ public interface Query {
 	 */
 	List getResultList();
 
+	/**
+	 * Execute a SELECT query asynchronously and return a future
+	 * of the query results as an untyped List.
+	 * <p> The query is executed on a thread of the given executor
+	 * and the calling thread is not blocked.  The entity manager the
+	 * query was obtained from must not be used, by any thread, until
+	 * the returned future is done; results are managed by its
+	 * persistence context as if the query had been executed
+	 * synchronously.  Independent queries meant to run in parallel
+	 * must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are
+	 * reported, wrapped in an <code>ExecutionException</code>, by
+	 * the <code>get</code> methods of the returned future.
+	 * Cancelling the future with interruption requests the
+	 * cancellation of the running statement.
+	 *
+	 * @param executor executor running the query
+	 *
+	 * @return a future of the list of the results
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getResultList()
+	 */
+	Future getResultListAsync(Executor executor);
+
+	/**
+	 * Execute a SELECT query asynchronously and pass the query
+	 * results, as an untyped List, to the given callback.
+	 * <p> The query is executed and the callback invoked on a thread
+	 * of the given executor, so the calling thread neither blocks nor
+	 * has to wait for the outcome.  With an executor running each
+	 * task on its own virtual thread, see {@link ExecutionModel}, no
+	 * platform thread is held while the statement waits for the
+	 * database.  The entity manager the query was obtained from must
+	 * not be used by other threads until the callback has returned;
+	 * it may be used from within the callback, for instance to
+	 * execute a dependent query.  Independent queries meant to run in
+	 * parallel must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are passed
+	 * to the <code>onFailure</code> method of the callback.
+	 * <p> The callback is untyped so that a <code>TypedQuery</code>,
+	 * which passes typed results, accepts a callback of its result
+	 * type.
+	 *
+	 * @param executor executor running the query and the callback
+	 * @param callback callback receiving the outcome of the query
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getResultList()
+	 */
+	void getResultListAsync(Executor executor, QueryCallback callback);
+
+	/**
+	 * Execute a SELECT query and return a cursor over the
+	 * query results as untyped objects.  The results are fetched
+	 * incrementally, using a fetch size chosen by the provider.
+	 *
+	 * @return a cursor over the results, to be closed once used
+	 *
+	 * @throws IllegalStateException if called for a Java
+	 * Persistence query language UPDATE or DELETE statement
+	 * @throws QueryTimeoutException if the query execution exceeds
+	 * the query timeout value set and only the statement is
+	 * rolled back
+	 * @throws TransactionRequiredException if a lock mode has
+	 * been set and there is no transaction
+	 * @throws PessimisticLockException if pessimistic locking
+	 * fails and the transaction is rolled back
+	 * @throws LockTimeoutException if pessimistic locking
+	 * fails and only the statement is rolled back
+	 * @throws PersistenceException if the query execution exceeds
+	 * the query timeout value set and the transaction
+	 * is rolled back
+	 */
+	ResultCursor getResultCursor();
+
+	/**
+	 * Execute a SELECT query and return a cursor over the
+	 * query results as untyped objects.  The results are fetched
+	 * incrementally, in chunks of the given size.
+	 *
+	 * @param fetchSize number of results the provider should
+	 * fetch from the database at a time
+	 *
+	 * @return a cursor over the results, to be closed once used
+	 *
+	 * @throws IllegalArgumentException if the fetch size is
+	 * not positive
+	 * @throws IllegalStateException if called for a Java
+	 * Persistence query language UPDATE or DELETE statement
+	 * @throws QueryTimeoutException if the query execution exceeds
+	 * the query timeout value set and only the statement is
+	 * rolled back
+	 * @throws TransactionRequiredException if a lock mode has
+	 * been set and there is no transaction
+	 * @throws PessimisticLockException if pessimistic locking
+	 * fails and the transaction is rolled back
+	 * @throws LockTimeoutException if pessimistic locking
+	 * fails and only the statement is rolled back
+	 * @throws PersistenceException if the query execution exceeds
+	 * the query timeout value set and the transaction
+	 * is rolled back
+	 */
+	ResultCursor getResultCursor(int fetchSize);
+
 	/**
 	 * Execute a SELECT query that returns a single untyped result.
 	 *
@@ -79,6 +205,58 @@ public interface Query {
 	 */
 	Object getSingleResult();
 
+	/**
+	 * Execute asynchronously a SELECT query that returns a single
+	 * untyped result.
+	 * <p> The query is executed on a thread of the given executor
+	 * and the calling thread is not blocked.  The entity manager the
+	 * query was obtained from must not be used, by any thread, until
+	 * the returned future is done; results are managed by its
+	 * persistence context as if the query had been executed
+	 * synchronously.  Independent queries meant to run in parallel
+	 * must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are
+	 * reported, wrapped in an <code>ExecutionException</code>, by
+	 * the <code>get</code> methods of the returned future.
+	 * Cancelling the future with interruption requests the
+	 * cancellation of the running statement.
+	 *
+	 * @param executor executor running the query
+	 *
+	 * @return a future of the result
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getSingleResult()
+	 */
+	Future getSingleResultAsync(Executor executor);
+
+	/**
+	 * Execute asynchronously a SELECT query that returns a single
+	 * untyped result, and pass the result to the given callback.
+	 * <p> The query is executed and the callback invoked on a thread
+	 * of the given executor, so the calling thread neither blocks nor
+	 * has to wait for the outcome.  With an executor running each
+	 * task on its own virtual thread, see {@link ExecutionModel}, no
+	 * platform thread is held while the statement waits for the
+	 * database.  The entity manager the query was obtained from must
+	 * not be used by other threads until the callback has returned;
+	 * it may be used from within the callback, for instance to
+	 * execute a dependent query.  Independent queries meant to run in
+	 * parallel must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are passed
+	 * to the <code>onFailure</code> method of the callback.
+	 * <p> The callback is untyped so that a <code>TypedQuery</code>,
+	 * which passes typed results, accepts a callback of its result
+	 * type.
+	 *
+	 * @param executor executor running the query and the callback
+	 * @param callback callback receiving the outcome of the query
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getSingleResult()
+	 */
+	void getSingleResultAsync(Executor executor, QueryCallback callback);
+
 	/**
 	 * Execute an update or delete statement.
 	 *
@@ -86,7 +264,7 @@ public interface Query {
 	 *
 	 * @throws IllegalStateException if called for a Java
 	 * Persistence query language SELECT statement or for
-	 * a criteria query
+	 * a <code>CriteriaQuery</code>
 	 * @throws TransactionRequiredException if there is
 	 * no transaction
 	 * @throws QueryTimeoutException if the statement execution
@@ -98,6 +276,53 @@ public interface Query {
 	 */
 	int executeUpdate();
 
+	/**
+	 * Execute an update or delete statement asynchronously.
+	 * <p> The query is executed on a thread of the given executor
+	 * and the calling thread is not blocked.  The entity manager the
+	 * query was obtained from must not be used, by any thread, until
+	 * the returned future is done.  Independent statements meant to
+	 * run in parallel must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are
+	 * reported, wrapped in an <code>ExecutionException</code>, by
+	 * the <code>get</code> methods of the returned future.
+	 * Cancelling the future with interruption requests the
+	 * cancellation of the running statement.
+	 *
+	 * @param executor executor running the query
+	 *
+	 * @return a future of the number of entities updated or deleted
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #executeUpdate()
+	 */
+	Future<Integer> executeUpdateAsync(Executor executor);
+
+	/**
+	 * Execute an update or delete statement asynchronously and
+	 * pass the number of entities updated or deleted to the given
+	 * callback.
+	 * <p> The query is executed and the callback invoked on a thread
+	 * of the given executor, so the calling thread neither blocks nor
+	 * has to wait for the outcome.  With an executor running each
+	 * task on its own virtual thread, see {@link ExecutionModel}, no
+	 * platform thread is held while the statement waits for the
+	 * database.  The entity manager the query was obtained from must
+	 * not be used by other threads until the callback has returned;
+	 * it may be used from within the callback, for instance to
+	 * execute a dependent query.  Independent queries meant to run in
+	 * parallel must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are passed
+	 * to the <code>onFailure</code> method of the callback.
+	 *
+	 * @param executor executor running the query and the callback
+	 * @param callback callback receiving the outcome of the query
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #executeUpdate()
+	 */
+	void executeUpdateAsync(Executor executor, QueryCallback<Integer> callback);
+
 	/**
 	 * Set the maximum number of results to retrieve.
 	 *
@@ -487,6 +712,31 @@ public interface Query {
 	 */
 	FlushModeType getFlushMode();
 
+	/**
+	 * Set whether the entities returned by the query execution are
+	 * loaded in read-only mode.  The provider does not keep a
+	 * snapshot of the state of read-only entities and does not check
+	 * them for changes at flush time: changes made to them are not
+	 * synchronized to the database.  Entities already managed by
+	 * the persistence context are not affected.
+	 * <p> This is equivalent to setting the
+	 * <code>javax.persistence.readOnly</code> hint.
+	 *
+	 * @param readOnly whether entities are loaded in read-only mode
+	 *
+	 * @return the same query instance
+	 */
+	Query setReadOnly(boolean readOnly);
+
+	/**
+	 * Whether the entities returned by the query execution are loaded
+	 * in read-only mode.  If read-only mode has not been set for the
+	 * query object, returns the mode in effect for the entity manager.
+	 *
+	 * @return true if entities are loaded in read-only mode
+	 */
+	boolean isReadOnly();
+
 	/**
 	 * Set the lock mode type to be used for the query execution.
 	 *
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+/**
+ * Interface used to receive the outcome of a query executed
+ * asynchronously, without blocking a thread to wait for it.
+ * <p> Exactly one of the methods is invoked, once, on a thread of the
+ * executor given when the query was executed.  Exceptions thrown by
+ * the callback are not passed to <code>onFailure</code>; they are left
+ * to the executor.
+ *
+ * @param <X> type of the outcome of the query
+ * @see Query#getResultListAsync(java.util.concurrent.Executor, QueryCallback)
+ * @see Query#getSingleResultAsync(java.util.concurrent.Executor, QueryCallback)
+ * @see Query#executeUpdateAsync(java.util.concurrent.Executor, QueryCallback)
+ */
+public interface QueryCallback<X> {
+	/**
+	 * Invoked with the outcome of the query once it has been
+	 * executed successfully.
+	 *
+	 * @param result the outcome of the query, as returned by the
+	 * corresponding synchronous method
+	 */
+	void onResult(X result);
+
+	/**
+	 * Invoked if the execution of the query failed.
+	 *
+	 * @param exception the exception the corresponding synchronous
+	 * method would have thrown
+	 */
+	void onFailure(RuntimeException exception);
+}
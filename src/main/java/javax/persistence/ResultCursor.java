@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.util.Iterator;
+
+/**
+ * Interface used to iterate over the results of a query without
+ * materializing them all in memory.
+ * <p> The provider is permitted to fetch the results incrementally,
+ * in chunks of the fetch size requested when the cursor was obtained.
+ * A cursor holds database resources and must be closed once it is no
+ * longer used.  A cursor is closed by the provider when the persistence
+ * context it was obtained from is closed or, for a transaction-scoped
+ * persistence context, when the transaction completes.
+ * <p> The <code>remove</code> operation is not supported and throws
+ * <code>UnsupportedOperationException</code>.
+ *
+ * @param <X> query result type
+ * @see Query#getResultCursor()
+ * @see TypedQuery#getResultCursor()
+ */
+public interface ResultCursor<X> extends Iterator<X> {
+	/**
+	 * Whether the cursor has more results.
+	 *
+	 * @return true if more results are available
+	 *
+	 * @throws IllegalStateException if the cursor has been closed
+	 * @throws PersistenceException if fetching the next chunk of
+	 * results fails
+	 */
+	boolean hasNext();
+
+	/**
+	 * Return the next result.
+	 *
+	 * @return the next result
+	 *
+	 * @throws java.util.NoSuchElementException if there are no
+	 * more results
+	 * @throws IllegalStateException if the cursor has been closed
+	 * @throws PersistenceException if fetching the next chunk of
+	 * results fails
+	 */
+	X next();
+
+	/**
+	 * Detach from the persistence context the entities returned
+	 * by this cursor so far, including the entities reachable from
+	 * them through relationships mapped with
+	 * <code>cascade=DETACH</code> or <code>cascade=ALL</code>.
+	 * Changes made to those entities that have not been flushed
+	 * will not be synchronized to the database.
+	 * <p> Calling this method periodically keeps the size of the
+	 * persistence context bounded regardless of the result size.
+	 *
+	 * @throws IllegalStateException if the cursor has been closed
+	 */
+	void detachProcessed();
+
+	/**
+	 * Close the cursor and release the database resources it holds.
+	 * Closing a closed cursor has no effect.
+	 */
+	void close();
+}
@@ -23,6 +23,7 @@ import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static javax.persistence.AllocationMode.DEFAULT;
 
 /**
  * Defines a primary key generator that may be referenced by name when
@@ -82,4 +83,10 @@ public @interface SequenceGenerator {
 	 * sequence numbers from the sequence.
 	 */
 	int allocationSize() default 50;
+
+	/**
+	 * (Optional) How the blocks of <code>allocationSize</code>
+	 * identifiers are allocated to the entities being persisted.
+	 */
+	AllocationMode allocationMode() default DEFAULT;
 }
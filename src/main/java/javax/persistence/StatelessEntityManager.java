@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence;
+
+import java.util.Map;
+import javax.persistence.criteria.CriteriaQuery;
+
+/**
+ * Interface used to read and write entities without a persistence
+ * context, typically for bulk processing.
+ *
+ * <p> A <code>StatelessEntityManager</code> does not manage the entity
+ * instances it reads or writes: each operation is executed against
+ * the database, entity instances are always detached, and memory use
+ * does not grow with the number of entities processed.  In particular:
+ * <ul>
+ * <li> there is no first-level cache: reading the same entity twice
+ *    returns two distinct instances;
+ * <li> there is no dirty checking: changes are only written through
+ *    <code>update</code>;
+ * <li> operations are not cascaded to related entities, and
+ *    collection valued attributes are ignored when writing;
+ * <li> lazy attributes which have not been fetched cannot be loaded;
+ * <li> entity listeners and callback methods are not invoked, and
+ *    the second-level cache is neither read nor written.
+ * </ul>
+ * <p> Write operations of the same entity type are grouped in batches
+ * of the size set through {@link #setBatchSize(int)}, or chosen by the
+ * provider if no batch size has been set.  Pending batches
+ * are executed before any query execution, before the transaction
+ * commits and when the stateless entity manager is closed.  Large
+ * results should be read through <code>Query.getResultCursor</code>.
+ *
+ * @see EntityManagerFactory#createStatelessEntityManager()
+ */
+public interface StatelessEntityManager {
+
+    /**
+     * Insert the state of the given entity.  The entity is not
+     * made managed; a generated primary key is assigned to it.
+     * @param entity  entity instance
+     * @throws EntityExistsException if the entity already exists.
+     * (The <code>EntityExistsException</code> may be thrown when
+     * the batch including the insert is executed.)
+     * @throws IllegalArgumentException if the instance is not an
+     *         entity
+     * @throws TransactionRequiredException if there is no
+     *         transaction
+     */
+    public void insert(Object entity);
+
+    /**
+     * Update the database state of the given entity with the state
+     * of the instance.
+     * @param entity  entity instance
+     * @throws IllegalArgumentException if the instance is not an
+     *         entity
+     * @throws OptimisticLockException if the entity has a version
+     *         attribute and the version check fails
+     * @throws EntityNotFoundException if the entity no longer
+     *         exists in the database
+     * @throws TransactionRequiredException if there is no
+     *         transaction
+     */
+    public void update(Object entity);
+
+    /**
+     * Delete the given entity from the database.
+     * @param entity  entity instance
+     * @throws IllegalArgumentException if the instance is not an
+     *         entity
+     * @throws OptimisticLockException if the entity has a version
+     *         attribute and the version check fails
+     * @throws TransactionRequiredException if there is no
+     *         transaction
+     */
+    public void delete(Object entity);
+
+    /**
+     * Read an entity by primary key.
+     * @param entityClass  entity class
+     * @param primaryKey  primary key
+     * @return a detached entity instance, or null if the entity
+     *         does not exist
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         not a valid type for that entity's primary key or
+     *         is null
+     */
+    public <T> T get(Class<T> entityClass, Object primaryKey);
+
+    /**
+     * Read an entity by primary key and lock it with respect to the
+     * specified lock type.
+     * @param entityClass  entity class
+     * @param primaryKey  primary key
+     * @param lockMode  lock mode
+     * @return a detached entity instance, or null if the entity
+     *         does not exist
+     * @throws IllegalArgumentException if the first argument does
+     *         not denote an entity type or the second argument is
+     *         not a valid type for that entity's primary key or
+     *         is null
+     * @throws TransactionRequiredException if there is no
+     *         transaction and a lock mode other than <code>NONE</code> is
+     *         specified
+     * @throws PessimisticLockException if pessimistic locking
+     *         fails and the transaction is rolled back
+     * @throws LockTimeoutException if pessimistic locking fails and
+     *         only the statement is rolled back
+     */
+    public <T> T get(Class<T> entityClass, Object primaryKey,
+                     LockModeType lockMode);
+
+    /**
+     * Refresh the state of the instance from the database.
+     * @param entity  entity instance
+     * @throws IllegalArgumentException if the instance is not an
+     *         entity
+     * @throws EntityNotFoundException if the entity no longer
+     *         exists in the database
+     */
+    public void refresh(Object entity);
+
+    /**
+     * Set the maximum number of write statements of the same entity
+     * type grouped in a batch.
+     * @param batchSize  batch size, 0 to let the provider decide,
+     *        1 to execute each statement immediately
+     * @throws IllegalArgumentException if the argument is negative
+     */
+    public void setBatchSize(int batchSize);
+
+    /**
+     * Get the maximum number of write statements grouped in a batch.
+     * @return batch size, 0 if it has not been set
+     */
+    public int getBatchSize();
+
+    /**
+     * Create an instance of <code>Query</code> for executing a
+     * Java Persistence query language statement.  The entities
+     * returned by the query are detached.
+     * @param qlString  a Java Persistence query string
+     * @return the new query instance
+     * @throws IllegalArgumentException if the query string is
+     *         found to be invalid
+     */
+    public Query createQuery(String qlString);
+
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * Java Persistence query language statement.  The entities
+     * returned by the query are detached.
+     * @param qlString  a Java Persistence query string
+     * @param resultClass  the type of the query result
+     * @return the new query instance
+     * @throws IllegalArgumentException if the query string is found
+     *         to be invalid or if the query result is found to
+     *         not be assignable to the specified type
+     */
+    public <T> TypedQuery<T> createQuery(String qlString, Class<T> resultClass);
+
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * criteria query.  The entities returned by the query are detached.
+     * @param criteriaQuery  a criteria query object
+     * @return the new query instance
+     * @throws IllegalArgumentException if the criteria query is
+     *         found to be invalid
+     */
+    public <T> TypedQuery<T> createQuery(CriteriaQuery<T> criteriaQuery);
+
+    /**
+     * Create an instance of <code>TypedQuery</code> for executing a
+     * named query.  The entities returned by the query are detached.
+     * @param name  the name of a query defined in metadata
+     * @param resultClass  the type of the query result
+     * @return the new query instance
+     * @throws IllegalArgumentException if a query has not been
+     *         defined with the given name or if the query result is
+     *         found to not be assignable to the specified type
+     */
+    public <T> TypedQuery<T> createNamedQuery(String name, Class<T> resultClass);
+
+    /**
+     * Create an instance of <code>Query</code> for executing
+     * a native SQL query.
+     * @param sqlString  a native SQL query string
+     * @param resultClass  the class of the resulting instance(s)
+     * @return the new query instance
+     */
+    public Query createNativeQuery(String sqlString, Class resultClass);
+
+    /**
+     * Return the resource-level <code>EntityTransaction</code> object.
+     * @return EntityTransaction instance
+     * @throws IllegalStateException if invoked on a JTA
+     *         stateless entity manager
+     */
+    public EntityTransaction getTransaction();
+
+    /**
+     * Get the properties and hints and associated values that are in effect
+     * for the stateless entity manager.
+     * @return map of properties and hints in effect
+     */
+    public Map<String, Object> getProperties();
+
+    /**
+     * Return the entity manager factory for the stateless entity manager.
+     * @return EntityManagerFactory instance
+     */
+    public EntityManagerFactory getEntityManagerFactory();
+
+    /**
+     * Execute the pending batches and close the stateless entity
+     * manager.  After the stateless entity manager is closed, all
+     * methods invoked on it and on the <code>Query</code> objects
+     * obtained from it will throw the <code>IllegalStateException</code>,
+     * except for <code>isOpen</code>, which will return false.
+     * @throws IllegalStateException if the stateless entity manager
+     *         has already been closed
+     */
+    public void close();
+
+    /**
+     * Determine whether the stateless entity manager is open.
+     * @return true until the stateless entity manager has been closed
+     */
+    public boolean isOpen();
+}
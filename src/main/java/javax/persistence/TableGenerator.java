@@ -23,6 +23,7 @@ import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static javax.persistence.AllocationMode.DEFAULT;
 
 /**
  * Defines a primary key generator that may be
@@ -136,6 +137,12 @@ public @interface TableGenerator {
 	 */
 	int allocationSize() default 50;
 
+	/**
+	 * (Optional) How the blocks of <code>allocationSize</code>
+	 * identifiers are allocated to the entities being persisted.
+	 */
+	AllocationMode allocationMode() default DEFAULT;
+
 	/**
 	 * (Optional) Unique constraints that are to be placed on the
 	 * table. These are only used if table generation is in effect.
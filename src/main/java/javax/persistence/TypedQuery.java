@@ -20,6 +20,8 @@ package javax.persistence;
 import java.util.List;
 import java.util.Date;
 import java.util.Calendar;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 /**
  * Interface used to control the execution of typed queries.
@@ -53,6 +55,123 @@ public interface TypedQuery<X> extends Query {
 	 */
 	List<X> getResultList();
 
+	/**
+	 * Execute a SELECT query asynchronously and return a future
+	 * of the query results as a typed List.
+	 * <p> The query is executed on a thread of the given executor
+	 * and the calling thread is not blocked.  The entity manager the
+	 * query was obtained from must not be used, by any thread, until
+	 * the returned future is done; results are managed by its
+	 * persistence context as if the query had been executed
+	 * synchronously.  Independent queries meant to run in parallel
+	 * must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are
+	 * reported, wrapped in an <code>ExecutionException</code>, by
+	 * the <code>get</code> methods of the returned future.
+	 * Cancelling the future with interruption requests the
+	 * cancellation of the running statement.
+	 *
+	 * @param executor executor running the query
+	 *
+	 * @return a future of the list of the results
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getResultList()
+	 */
+	Future<List<X>> getResultListAsync(Executor executor);
+
+	/**
+	 * Execute a SELECT query and return a cursor over the
+	 * query results as typed objects.  The results are fetched
+	 * incrementally, using a fetch size chosen by the provider.
+	 *
+	 * @return a cursor over the results, to be closed once used
+	 *
+	 * @throws IllegalStateException if called for a Java
+	 * Persistence query language UPDATE or DELETE statement
+	 * @throws QueryTimeoutException if the query execution exceeds
+	 * the query timeout value set and only the statement is
+	 * rolled back
+	 * @throws TransactionRequiredException if a lock mode has
+	 * been set and there is no transaction
+	 * @throws PessimisticLockException if pessimistic locking
+	 * fails and the transaction is rolled back
+	 * @throws LockTimeoutException if pessimistic locking
+	 * fails and only the statement is rolled back
+	 * @throws PersistenceException if the query execution exceeds
+	 * the query timeout value set and the transaction
+	 * is rolled back
+	 */
+	ResultCursor<X> getResultCursor();
+
+	/**
+	 * Execute a SELECT query and return a cursor over the
+	 * query results as typed objects.  The results are fetched
+	 * incrementally, in chunks of the given size.
+	 *
+	 * @param fetchSize number of results the provider should
+	 * fetch from the database at a time
+	 *
+	 * @return a cursor over the results, to be closed once used
+	 *
+	 * @throws IllegalArgumentException if the fetch size is
+	 * not positive
+	 * @throws IllegalStateException if called for a Java
+	 * Persistence query language UPDATE or DELETE statement
+	 * @throws QueryTimeoutException if the query execution exceeds
+	 * the query timeout value set and only the statement is
+	 * rolled back
+	 * @throws TransactionRequiredException if a lock mode has
+	 * been set and there is no transaction
+	 * @throws PessimisticLockException if pessimistic locking
+	 * fails and the transaction is rolled back
+	 * @throws LockTimeoutException if pessimistic locking
+	 * fails and only the statement is rolled back
+	 * @throws PersistenceException if the query execution exceeds
+	 * the query timeout value set and the transaction
+	 * is rolled back
+	 */
+	ResultCursor<X> getResultCursor(int fetchSize);
+
+	/**
+	 * Execute a criteria query and return the requested page of
+	 * its results, located by the key of the last result of the
+	 * previous page rather than by an offset.
+	 * The query is restricted to the results which follow the key
+	 * of the page in the ordering of the query, as by the predicate
+	 * returned by <code>CriteriaBuilder.keysetAfter</code>, and to at
+	 * most the maximum number of results of the page.
+	 * The ordering expressions of the query must not evaluate to
+	 * null for any result.
+	 * The maximum results and first result set on the query are
+	 * not affected, but must not have been set.
+	 *
+	 * @param page the page request
+	 *
+	 * @return the results of the page and the key to continue from
+	 *
+	 * @throws IllegalArgumentException if the key of the page does
+	 * not have as many values as the query has orderings, or if a
+	 * value is not of the type of its ordering expression
+	 * @throws IllegalStateException if the query was not created
+	 * from a <code>CriteriaQuery</code> with at least one ordering,
+	 * or if the first result or the maximum results have been set
+	 * @throws QueryTimeoutException if the query execution exceeds
+	 * the query timeout value set and only the statement is
+	 * rolled back
+	 * @throws TransactionRequiredException if a lock mode has
+	 * been set and there is no transaction
+	 * @throws PessimisticLockException if pessimistic locking
+	 * fails and the transaction is rolled back
+	 * @throws LockTimeoutException if pessimistic locking
+	 * fails and only the statement is rolled back
+	 * @throws PersistenceException if the query execution exceeds
+	 * the query timeout value set and the transaction
+	 * is rolled back
+	 * @see KeyedPage
+	 */
+	KeyedResultList<X> getKeyedResultList(KeyedPage page);
+
 	/**
 	 * Execute a SELECT query that returns a single result.
 	 *
@@ -77,6 +196,31 @@ public interface TypedQuery<X> extends Query {
 	 */
 	X getSingleResult();
 
+	/**
+	 * Execute asynchronously a SELECT query that returns a single
+	 * typed result.
+	 * <p> The query is executed on a thread of the given executor
+	 * and the calling thread is not blocked.  The entity manager the
+	 * query was obtained from must not be used, by any thread, until
+	 * the returned future is done; results are managed by its
+	 * persistence context as if the query had been executed
+	 * synchronously.  Independent queries meant to run in parallel
+	 * must be obtained from distinct entity managers.
+	 * <p> The exceptions thrown by the synchronous method are
+	 * reported, wrapped in an <code>ExecutionException</code>, by
+	 * the <code>get</code> methods of the returned future.
+	 * Cancelling the future with interruption requests the
+	 * cancellation of the running statement.
+	 *
+	 * @param executor executor running the query
+	 *
+	 * @return a future of the result
+	 *
+	 * @throws IllegalStateException if the entity manager is closed
+	 * @see #getSingleResult()
+	 */
+	Future<X> getSingleResultAsync(Executor executor);
+
 	/**
 	 * Set the maximum number of results to retrieve.
 	 *
@@ -269,6 +413,22 @@ public interface TypedQuery<X> extends Query {
 	 */
 	TypedQuery<X> setFlushMode(FlushModeType flushMode);
 
+	/**
+	 * Set whether the entities returned by the query execution are
+	 * loaded in read-only mode.  The provider does not keep a
+	 * snapshot of the state of read-only entities and does not check
+	 * them for changes at flush time: changes made to them are not
+	 * synchronized to the database.  Entities already managed by
+	 * the persistence context are not affected.
+	 * <p> This is equivalent to setting the
+	 * <code>javax.persistence.readOnly</code> hint.
+	 *
+	 * @param readOnly whether entities are loaded in read-only mode
+	 *
+	 * @return the same query instance
+	 */
+	TypedQuery<X> setReadOnly(boolean readOnly);
+
 	/**
 	 * Set the lock mode type to be used for the query execution.
 	 *
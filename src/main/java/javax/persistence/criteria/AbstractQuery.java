@@ -35,7 +35,15 @@ import javax.persistence.metamodel.EntityType;
  * @param <T>  the type of the result
  * @since Java Persistence 2.0
  */
-public interface AbstractQuery<T> {
+public interface AbstractQuery<T> extends CommonAbstractCriteria {
+
+	public static enum SetOperator {
+		UNION,
+		UNION_ALL,
+		INTERSECT,
+		EXCEPT
+	}
+
 	/**
 	 * Create and add a query root corresponding to the given entity,
 	 * forming a cartesian product with any existing roots.
@@ -57,6 +65,23 @@ public interface AbstractQuery<T> {
 	 */
 	<X> Root<X> from(EntityType<X> entity);
 
+	/**
+	 * Create and add a query root corresponding to the given common
+	 * table expression, forming a cartesian product with any existing
+	 * roots.
+	 *
+	 * @param cte common table expression of the enclosing
+	 * <code>CriteriaQuery</code>
+	 *
+	 * @return query root over the results of the common table
+	 * expression
+	 *
+	 * @throws IllegalArgumentException if the common table
+	 * expression does not belong to the <code>CriteriaQuery</code>
+	 * or to one of the queries enclosing the subquery
+	 */
+	<X> Root<X> from(CommonTableExpression<X> cte);
+
 	/**
 	 * Modify the query to restrict the query results according
 	 * to the specified boolean expression.
@@ -146,15 +171,6 @@ public interface AbstractQuery<T> {
 	 */
 	AbstractQuery<T> distinct(boolean distinct);
 
-	/**
-	 * Create a subquery of the query.
-	 *
-	 * @param type the subquery result type
-	 *
-	 * @return subquery
-	 */
-	<U> Subquery<U> subquery(Class<U> type);
-
 	/**
 	 * Return the query roots.  These are the roots that have
 	 * been defined for the <code>CriteriaQuery</code> or <code>Subquery</code> itself,
@@ -174,15 +190,6 @@ public interface AbstractQuery<T> {
 	 */
 	Selection<T> getSelection();
 
-	/**
-	 * Return the predicate that corresponds to the where clause
-	 * restriction(s), or null if no restrictions have been
-	 * specified.
-	 *
-	 * @return where clause predicate
-	 */
-	Predicate getRestriction();
-
 	/**
 	 * Return a list of the grouping expressions.  Returns empty
 	 * list if no grouping expressions have been specified.
@@ -222,6 +229,41 @@ public interface AbstractQuery<T> {
 	 * @return result type
 	 */
 	Class<T> getResultType();
+
+	/**
+	 * Return the set operator combining the operands of a query
+	 * or subquery created through the <code>union</code>,
+	 * <code>unionAll</code>, <code>intersect</code> or
+	 * <code>except</code> method of <code>CriteriaBuilder</code>.
+	 * <p> Such a query or subquery has no roots, and its selection is
+	 * the selection of its left operand.  Its operands must have
+	 * compatible selections and, for subqueries, must have been
+	 * created from the same query; otherwise the <code>CriteriaBuilder</code>
+	 * method throws <code>IllegalArgumentException</code>.
+	 * <p> The methods which would modify its roots, selection,
+	 * restriction, grouping or distinct setting, or correlate it,
+	 * throw <code>IllegalStateException</code>.  It may be combined
+	 * further, used as a subquery if it is one, and executed through
+	 * <code>EntityManager.createQuery</code> if it is a
+	 * <code>CriteriaQuery</code>.  In the latter case it may be ordered
+	 * through <code>orderBy</code> by its selection or, for a compound
+	 * selection, by the items of its selection, the orderings applying
+	 * to the combined results; <code>orderBy</code> throws
+	 * <code>IllegalArgumentException</code> for any other ordering.
+	 *
+	 * @return set operator, or null if the query or subquery
+	 *         is a single select
+	 */
+	SetOperator getSetOperator();
+
+	/**
+	 * Return the queries or subqueries combined by the set operator.
+	 * Returns empty list if the query or subquery is a single select.
+	 * Modifications to the list do not affect the query.
+	 *
+	 * @return the left and right operands of the set operator
+	 */
+	List<AbstractQuery<? extends T>> getSetOperands();
 }
 
 
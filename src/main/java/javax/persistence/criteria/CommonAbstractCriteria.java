@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.criteria;
+
+/**
+ * The <code>CommonAbstractCriteria</code> interface defines functionality
+ * that is common to all criteria: queries, subqueries, and bulk update
+ * and delete statements.
+ * It is not intended to be used directly in query construction.
+ *
+ * @see AbstractQuery
+ * @see CriteriaUpdate
+ * @see CriteriaDelete
+ */
+public interface CommonAbstractCriteria {
+	/**
+	 * Create a subquery of the query or statement.
+	 *
+	 * @param type the subquery result type
+	 *
+	 * @return subquery
+	 */
+	<U> Subquery<U> subquery(Class<U> type);
+
+	/**
+	 * Return the predicate that corresponds to the where clause
+	 * restriction(s), or null if no restrictions have been
+	 * specified.
+	 *
+	 * @return where clause predicate
+	 */
+	Predicate getRestriction();
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.criteria;
+
+/**
+ * A named subquery defined in the <code>WITH</code> clause of a
+ * <code>CriteriaQuery</code>, which may be used as a query root by the
+ * query and by its subqueries.
+ *
+ * <p> The definition of a common table expression selects entities of
+ * a single entity type, so that a root created from it is a
+ * <code>Root</code> of that entity type, through which the attributes
+ * of the entities may be navigated as usual.
+ *
+ * <p> A recursive common table expression is defined by an anchor
+ * subquery together with a recursive subquery which uses the common
+ * table expression itself as a root.  The recursion is evaluated by the
+ * database in a single statement, until the recursive subquery yields
+ * no further results:
+ *
+ * <pre>
+ *     CriteriaQuery&#060;Category&#062; q = cb.createQuery(Category.class);
+ *
+ *     Subquery&#060;Category&#062; anchor = q.subquery(Category.class);
+ *     Root&#060;Category&#062; top = anchor.from(Category.class);
+ *     anchor.select(top).where(cb.equal(top.get(Category_.id), rootId));
+ *     CommonTableExpression&#060;Category&#062; tree = q.withRecursive("tree", anchor);
+ *
+ *     Subquery&#060;Category&#062; step = q.subquery(Category.class);
+ *     Root&#060;Category&#062; parent = step.from(tree);
+ *     Root&#060;Category&#062; child = step.from(Category.class);
+ *     step.select(child).where(cb.equal(child.get(Category_.parent), parent));
+ *     tree.unionAll(step);
+ *
+ *     q.select(q.from(tree));
+ * </pre>
+ *
+ * @param <T> the entity type selected by the common table expression
+ * @see CriteriaQuery#with(String, Subquery)
+ * @see CriteriaQuery#withRecursive(String, Subquery)
+ */
+public interface CommonTableExpression<T> {
+	/**
+	 * Specify the recursive subquery of a recursive common table
+	 * expression, whose results are added to the results of the
+	 * anchor subquery with duplicates eliminated.
+	 * Eliminating duplicates stops the recursion over cyclic data.
+	 * Replaces the previously specified recursive subquery, if any.
+	 *
+	 * @param recursivePart subquery using the common table
+	 * expression as a root
+	 *
+	 * @return the modified common table expression
+	 *
+	 * @throws IllegalStateException if the common table
+	 * expression is not recursive
+	 */
+	CommonTableExpression<T> union(Subquery<? extends T> recursivePart);
+
+	/**
+	 * Specify the recursive subquery of a recursive common table
+	 * expression, whose results are added to the results of the
+	 * anchor subquery with duplicates retained.
+	 * Replaces the previously specified recursive subquery, if any.
+	 *
+	 * @param recursivePart subquery using the common table
+	 * expression as a root
+	 *
+	 * @return the modified common table expression
+	 *
+	 * @throws IllegalStateException if the common table
+	 * expression is not recursive
+	 */
+	CommonTableExpression<T> unionAll(Subquery<? extends T> recursivePart);
+
+	/**
+	 * Return the name of the common table expression.
+	 *
+	 * @return name
+	 */
+	String getName();
+
+	/**
+	 * Return the subquery defining the common table expression,
+	 * or the anchor subquery of a recursive common table expression.
+	 *
+	 * @return defining subquery
+	 */
+	Subquery<T> getDefinition();
+
+	/**
+	 * Return the recursive subquery of a recursive common table
+	 * expression.
+	 *
+	 * @return recursive subquery, or null if none has been specified
+	 */
+	Subquery<? extends T> getRecursivePart();
+
+	/**
+	 * Whether the common table expression is recursive.
+	 *
+	 * @return boolean indicating whether the common table
+	 *         expression is recursive
+	 */
+	boolean isRecursive();
+
+	/**
+	 * Whether duplicates are retained when the results of the
+	 * recursive subquery are added.
+	 *
+	 * @return boolean indicating whether the recursive subquery
+	 *         was specified through <code>unionAll</code>
+	 */
+	boolean isUnionAll();
+
+	/**
+	 * Return the entity type selected by the common table expression.
+	 *
+	 * @return result type
+	 */
+	Class<T> getResultType();
+}
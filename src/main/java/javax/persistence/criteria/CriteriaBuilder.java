@@ -20,6 +20,7 @@ package javax.persistence.criteria;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.persistence.Tuple;
@@ -61,6 +62,26 @@ public interface CriteriaBuilder {
 	 */
 	CriteriaQuery<Tuple> createTupleQuery();
 
+	/**
+	 * Create a <code>CriteriaUpdate</code> query object to perform a
+	 * bulk update operation.
+	 *
+	 * @param targetEntity target type for update operation
+	 *
+	 * @return the query object
+	 */
+	<T> CriteriaUpdate<T> createCriteriaUpdate(Class<T> targetEntity);
+
+	/**
+	 * Create a <code>CriteriaDelete</code> query object to perform a
+	 * bulk delete operation.
+	 *
+	 * @param targetEntity target type for delete operation
+	 *
+	 * @return the query object
+	 */
+	<T> CriteriaDelete<T> createCriteriaDelete(Class<T> targetEntity);
+
 
 	// selection construction methods:
 
@@ -126,6 +147,31 @@ public interface CriteriaBuilder {
 	 */
 	Order desc(Expression<?> x);
 
+	/**
+	 * Create a predicate which is satisfied by the rows that follow
+	 * the row of the given key in the given ordering, for keyset
+	 * pagination.
+	 * The key holds the values of the ordering expressions for the
+	 * last row of the previous page.  For the orderings
+	 * <code>(a asc, b desc)</code> and the key <code>(x, y)</code>
+	 * the predicate is <code>a &gt; x or (a = x and b &lt; y)</code>.
+	 * The ordering expressions must not evaluate to null, as rows for
+	 * which they do would not satisfy the predicate.
+	 *
+	 * @param orderings the orderings of the query
+	 * @param key the values of the ordering expressions, one
+	 * per ordering
+	 *
+	 * @return keyset predicate
+	 *
+	 * @throws IllegalArgumentException if the key does not have
+	 * as many values as there are orderings, or if it contains a
+	 * null value
+	 *
+	 * @see javax.persistence.KeyedPage
+	 */
+	Predicate keysetAfter(List<Order> orderings, List<?> key);
+
 
 	//aggregate functions:
 
@@ -231,6 +277,130 @@ public interface CriteriaBuilder {
 	Expression<Long> countDistinct(Expression<?> x);
 
 
+	//window functions:
+
+	/**
+	 * Create a window, over which window functions are evaluated.
+	 *
+	 * @return window with no partitioning and no ordering
+	 */
+	Window createWindow();
+
+	/**
+	 * Create an expression which evaluates the given aggregate
+	 * expression over the window of each query result rather
+	 * than over a group.  With an ordered window this yields a
+	 * running aggregate, such as a running total.
+	 *
+	 * @param aggregate aggregate expression obtained from
+	 * <code>sum</code>, <code>avg</code>, <code>count</code>,
+	 * <code>max</code>, <code>min</code> or their variants
+	 * @param window window over which the aggregate is evaluated
+	 *
+	 * @return window aggregate expression
+	 *
+	 * @throws IllegalArgumentException if the expression is not
+	 * an aggregate expression
+	 */
+	<T> Expression<T> over(Expression<T> aggregate, Window window);
+
+	/**
+	 * Create an expression returning the sequential number of the
+	 * query result within its partition, starting at 1.
+	 *
+	 * @param window window over which the function is evaluated
+	 *
+	 * @return row number expression
+	 */
+	Expression<Long> rowNumber(Window window);
+
+	/**
+	 * Create an expression returning the rank of the query result
+	 * within its partition, with gaps after results of equal rank.
+	 *
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return rank expression
+	 */
+	Expression<Long> rank(Window window);
+
+	/**
+	 * Create an expression returning the rank of the query result
+	 * within its partition, without gaps after results of equal rank.
+	 *
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return dense rank expression
+	 */
+	Expression<Long> denseRank(Window window);
+
+	/**
+	 * Create an expression returning the value of the given
+	 * expression for the query result preceding the current one
+	 * within its partition, or null if there is none.
+	 *
+	 * @param x expression to be evaluated
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return lag expression
+	 */
+	<T> Expression<T> lag(Expression<T> x, Window window);
+
+	/**
+	 * Create an expression returning the value of the given
+	 * expression for the query result which precedes the current
+	 * one by the given offset within its partition, or the default
+	 * value if there is none.
+	 *
+	 * @param x expression to be evaluated
+	 * @param offset number of results to look back
+	 * @param defaultValue value returned if there is no such result,
+	 * may be null
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return lag expression
+	 *
+	 * @throws IllegalArgumentException if the offset is negative
+	 */
+	<T> Expression<T> lag(Expression<T> x, int offset, T defaultValue, Window window);
+
+	/**
+	 * Create an expression returning the value of the given
+	 * expression for the query result following the current one
+	 * within its partition, or null if there is none.
+	 *
+	 * @param x expression to be evaluated
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return lead expression
+	 */
+	<T> Expression<T> lead(Expression<T> x, Window window);
+
+	/**
+	 * Create an expression returning the value of the given
+	 * expression for the query result which follows the current
+	 * one by the given offset within its partition, or the default
+	 * value if there is none.
+	 *
+	 * @param x expression to be evaluated
+	 * @param offset number of results to look ahead
+	 * @param defaultValue value returned if there is no such result,
+	 * may be null
+	 * @param window ordered window over which the function is
+	 * evaluated
+	 *
+	 * @return lead expression
+	 *
+	 * @throws IllegalArgumentException if the offset is negative
+	 */
+	<T> Expression<T> lead(Expression<T> x, int offset, T defaultValue, Window window);
+
+
 	//subqueries:
 
 	/**
@@ -272,6 +442,123 @@ public interface CriteriaBuilder {
 	<Y> Expression<Y> any(Subquery<Y> subquery);
 
 
+	//set operations:
+
+	/**
+	 * Create a query whose results are the results of either
+	 * query, with duplicates eliminated
+	 * (<code>UNION</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return query combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> CriteriaQuery<T> union(CriteriaQuery<? extends T> left, CriteriaQuery<? extends T> right);
+
+	/**
+	 * Create a query whose results are the results of either
+	 * query, with duplicates retained
+	 * (<code>UNION ALL</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return query combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> CriteriaQuery<T> unionAll(CriteriaQuery<? extends T> left, CriteriaQuery<? extends T> right);
+
+	/**
+	 * Create a query whose results are the results of both
+	 * queries, with duplicates eliminated
+	 * (<code>INTERSECT</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return query combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> CriteriaQuery<T> intersect(CriteriaQuery<? extends T> left, CriteriaQuery<? extends T> right);
+
+	/**
+	 * Create a query whose results are the results of the left
+	 * query which are not results of the right query, with
+	 * duplicates eliminated
+	 * (<code>EXCEPT</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return query combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> CriteriaQuery<T> except(CriteriaQuery<? extends T> left, CriteriaQuery<? extends T> right);
+
+	/**
+	 * Create a subquery whose results are the results of either
+	 * query, with duplicates eliminated
+	 * (<code>UNION</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return subquery combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> Subquery<T> union(Subquery<? extends T> left, Subquery<? extends T> right);
+
+	/**
+	 * Create a subquery whose results are the results of either
+	 * query, with duplicates retained
+	 * (<code>UNION ALL</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return subquery combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> Subquery<T> unionAll(Subquery<? extends T> left, Subquery<? extends T> right);
+
+	/**
+	 * Create a subquery whose results are the results of both
+	 * queries, with duplicates eliminated
+	 * (<code>INTERSECT</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return subquery combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> Subquery<T> intersect(Subquery<? extends T> left, Subquery<? extends T> right);
+
+	/**
+	 * Create a subquery whose results are the results of the left
+	 * query which are not results of the right query, with
+	 * duplicates eliminated
+	 * (<code>EXCEPT</code>).
+	 *
+	 * @param left left operand
+	 * @param right right operand
+	 *
+	 * @return subquery combining the operands
+	 *
+	 * @see AbstractQuery#getSetOperator()
+	 */
+	<T> Subquery<T> except(Subquery<? extends T> left, Subquery<? extends T> right);
+
+
 	//boolean functions:
 
 	/**
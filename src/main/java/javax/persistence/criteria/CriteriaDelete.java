@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.criteria;
+
+import javax.persistence.metamodel.EntityType;
+
+/**
+ * The <code>CriteriaDelete</code> interface defines functionality for
+ * performing bulk delete operations using the Criteria API.
+ *
+ * <p> A bulk delete is executed as a single statement through the
+ * <code>executeUpdate</code> method of the <code>Query</code> object
+ * obtained from <code>EntityManager.createQuery(CriteriaDelete)</code>.
+ * As with Java Persistence query language delete statements, it
+ * applies to the entity class and its subclasses, it bypasses the
+ * persistence context, and it does not cascade to related entities.
+ * The delete is checked against the metamodel when the
+ * <code>Query</code> object is created.
+ *
+ * @param <T> the entity type that is the target of the delete
+ */
+public interface CriteriaDelete<T> extends CommonAbstractCriteria {
+	/**
+	 * Create and add a query root corresponding to the entity
+	 * that is the target of the delete.
+	 * A <code>CriteriaDelete</code> object has a single root, the
+	 * entity that is being deleted.
+	 *
+	 * @param entityClass the entity class
+	 *
+	 * @return query root corresponding to the given entity
+	 */
+	Root<T> from(Class<T> entityClass);
+
+	/**
+	 * Create and add a query root corresponding to the entity
+	 * that is the target of the delete.
+	 * A <code>CriteriaDelete</code> object has a single root, the
+	 * entity that is being deleted.
+	 *
+	 * @param entity metamodel entity representing the entity
+	 * of type X
+	 *
+	 * @return query root corresponding to the given entity
+	 */
+	Root<T> from(EntityType<T> entity);
+
+	/**
+	 * Return the query root.
+	 *
+	 * @return the query root, or null if it has not been created
+	 */
+	Root<T> getRoot();
+
+	/**
+	 * Modify the delete query to restrict the target of the delete
+	 * according to the specified boolean expression.
+	 * Replaces the previously added restriction(s), if any.
+	 *
+	 * @param restriction a simple or compound boolean expression
+	 *
+	 * @return the modified delete query
+	 */
+	CriteriaDelete<T> where(Expression<Boolean> restriction);
+
+	/**
+	 * Modify the delete query to restrict the target of the delete
+	 * according to the conjunction of the specified restriction
+	 * predicates.
+	 * Replaces the previously added restriction(s), if any.
+	 * If no restrictions are specified, any previously added
+	 * restrictions are simply removed.
+	 *
+	 * @param restrictions zero or more restriction predicates
+	 *
+	 * @return the modified delete query
+	 */
+	CriteriaDelete<T> where(Predicate... restrictions);
+}
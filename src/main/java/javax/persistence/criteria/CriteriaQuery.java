@@ -324,6 +324,47 @@ public interface CriteriaQuery<T> extends AbstractQuery<T> {
 	 */
 	CriteriaQuery<T> distinct(boolean distinct);
 
+	/**
+	 * Add a common table expression to the <code>WITH</code> clause
+	 * of the query.
+	 * The defining subquery must have been created from this query
+	 * and must select entities of a single entity type; it may use
+	 * common table expressions added before it as roots.
+	 *
+	 * @param name name of the common table expression, unique
+	 * within the query
+	 * @param definition subquery defining the common table expression
+	 *
+	 * @return the common table expression, to be used as a root
+	 * through <code>from</code>
+	 *
+	 * @throws IllegalArgumentException if a common table expression
+	 * of the same name already exists, or if the subquery was not
+	 * created from this query or does not select entities
+	 */
+	<X> CommonTableExpression<X> with(String name, Subquery<X> definition);
+
+	/**
+	 * Add a recursive common table expression to the <code>WITH</code>
+	 * clause of the query, defined by the given anchor subquery
+	 * together with the recursive subquery subsequently specified
+	 * through the <code>union</code> or <code>unionAll</code> method
+	 * of the returned common table expression.
+	 *
+	 * @param name name of the common table expression, unique
+	 * within the query
+	 * @param anchor subquery yielding the initial results
+	 *
+	 * @return the recursive common table expression
+	 *
+	 * @throws IllegalArgumentException if a common table expression
+	 * of the same name already exists, or if the subquery was not
+	 * created from this query or does not select entities
+	 *
+	 * @see CommonTableExpression
+	 */
+	<X> CommonTableExpression<X> withRecursive(String name, Subquery<X> anchor);
+
 	/**
 	 * Return the ordering expressions in order of precedence.
 	 * Returns empty list if no ordering expressions have been
@@ -334,6 +375,16 @@ public interface CriteriaQuery<T> extends AbstractQuery<T> {
 	 */
 	List<Order> getOrderList();
 
+	/**
+	 * Return the common table expressions of the query, in the
+	 * order in which they were added.  Returns empty list if no
+	 * common table expressions have been added.
+	 * Modifications to the list do not affect the query.
+	 *
+	 * @return the list of common table expressions
+	 */
+	List<CommonTableExpression<?>> getCommonTableExpressions();
+
 	/**
 	 * Return the parameters of the query.  Returns empty set if
 	 * there are no parameters.
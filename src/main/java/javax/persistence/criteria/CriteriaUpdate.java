@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.criteria;
+
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.SingularAttribute;
+
+/**
+ * The <code>CriteriaUpdate</code> interface defines functionality for
+ * performing bulk update operations using the Criteria API.
+ *
+ * <p> A bulk update is executed as a single statement through the
+ * <code>executeUpdate</code> method of the <code>Query</code> object
+ * obtained from <code>EntityManager.createQuery(CriteriaUpdate)</code>.
+ * As with Java Persistence query language update statements, it
+ * applies to the entity class and its subclasses, it bypasses the
+ * persistence context and optimistic locking, and it does not cascade
+ * to related entities.  The update is checked against the metamodel
+ * when the <code>Query</code> object is created.
+ *
+ * <pre>
+ *     CriteriaUpdate&#060;Customer&#062; update = cb.createCriteriaUpdate(Customer.class);
+ *     Root&#060;Customer&#062; customer = update.from(Customer.class);
+ *     update.set(customer.get(Customer_.status), Status.INACTIVE)
+ *           .where(cb.lessThan(customer.get(Customer_.lastOrderDate), cutoff));
+ *     int updated = em.createQuery(update).executeUpdate();
+ * </pre>
+ *
+ * @param <T> the entity type that is the target of the update
+ */
+public interface CriteriaUpdate<T> extends CommonAbstractCriteria {
+	/**
+	 * Create and add a query root corresponding to the entity
+	 * that is the target of the update.
+	 * A <code>CriteriaUpdate</code> object has a single root, the
+	 * entity that is being updated.
+	 *
+	 * @param entityClass the entity class
+	 *
+	 * @return query root corresponding to the given entity
+	 */
+	Root<T> from(Class<T> entityClass);
+
+	/**
+	 * Create and add a query root corresponding to the entity
+	 * that is the target of the update.
+	 * A <code>CriteriaUpdate</code> object has a single root, the
+	 * entity that is being updated.
+	 *
+	 * @param entity metamodel entity representing the entity
+	 * of type X
+	 *
+	 * @return query root corresponding to the given entity
+	 */
+	Root<T> from(EntityType<T> entity);
+
+	/**
+	 * Return the query root.
+	 *
+	 * @return the query root, or null if it has not been created
+	 */
+	Root<T> getRoot();
+
+	/**
+	 * Update the value of the specified attribute.
+	 *
+	 * @param attribute attribute to be updated
+	 * @param value new value
+	 *
+	 * @return the modified update query
+	 */
+	<Y, X extends Y> CriteriaUpdate<T> set(SingularAttribute<? super T, Y> attribute, X value);
+
+	/**
+	 * Update the value of the specified attribute.
+	 *
+	 * @param attribute attribute to be updated
+	 * @param value new value, possibly computed from the current
+	 * state of the entity
+	 *
+	 * @return the modified update query
+	 */
+	<Y> CriteriaUpdate<T> set(SingularAttribute<? super T, Y> attribute, Expression<? extends Y> value);
+
+	/**
+	 * Update the value of the specified attribute.
+	 *
+	 * @param attribute path of the attribute to be updated
+	 * @param value new value
+	 *
+	 * @return the modified update query
+	 */
+	<Y, X extends Y> CriteriaUpdate<T> set(Path<Y> attribute, X value);
+
+	/**
+	 * Update the value of the specified attribute.
+	 *
+	 * @param attribute path of the attribute to be updated
+	 * @param value new value, possibly computed from the current
+	 * state of the entity
+	 *
+	 * @return the modified update query
+	 */
+	<Y> CriteriaUpdate<T> set(Path<Y> attribute, Expression<? extends Y> value);
+
+	/**
+	 * Update the value of the specified attribute.
+	 *
+	 * @param attributeName name of the attribute to be updated
+	 * @param value new value
+	 *
+	 * @return the modified update query
+	 *
+	 * @throws IllegalArgumentException if the entity has no attribute
+	 * of the given name
+	 */
+	CriteriaUpdate<T> set(String attributeName, Object value);
+
+	/**
+	 * Modify the update query to restrict the target of the update
+	 * according to the specified boolean expression.
+	 * Replaces the previously added restriction(s), if any.
+	 *
+	 * @param restriction a simple or compound boolean expression
+	 *
+	 * @return the modified update query
+	 */
+	CriteriaUpdate<T> where(Expression<Boolean> restriction);
+
+	/**
+	 * Modify the update query to restrict the target of the update
+	 * according to the conjunction of the specified restriction
+	 * predicates.
+	 * Replaces the previously added restriction(s), if any.
+	 * If no restrictions are specified, any previously added
+	 * restrictions are simply removed.
+	 *
+	 * @param restrictions zero or more restriction predicates
+	 *
+	 * @return the modified update query
+	 */
+	CriteriaUpdate<T> where(Predicate... restrictions);
+}
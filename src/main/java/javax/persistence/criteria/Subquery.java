@@ -207,11 +207,23 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
 
 	/**
 	 * Return the query of which this is a subquery.
+	 * This must be a <code>CriteriaQuery</code> or a <code>Subquery</code>.
 	 *
 	 * @return the enclosing query or subquery
+	 *
+	 * @throws IllegalStateException if the subquery is contained
+	 * in a <code>CriteriaUpdate</code> or <code>CriteriaDelete</code>
 	 */
 	AbstractQuery<?> getParent();
 
+	/**
+	 * Return the query, subquery, update or delete of which this is
+	 * a subquery.
+	 *
+	 * @return the enclosing query, subquery, update or delete
+	 */
+	CommonAbstractCriteria getContainingQuery();
+
 	/**
 	 * Return the selection expression.
 	 *
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.criteria;
+
+import java.util.List;
+
+/**
+ * The <code>Window</code> interface defines the window over which a
+ * window function is evaluated: the partitioning of the query results
+ * and the ordering of the results within each partition.
+ *
+ * <p> A window function is evaluated for each result of the query
+ * without collapsing the results into groups, and may be used in the
+ * selection and in the ordering of a <code>CriteriaQuery</code>.  When
+ * an ordering is specified, an aggregate evaluated over the window is
+ * a running aggregate over the results of the partition up to and
+ * including the current result and its peers in the ordering;
+ * otherwise it is evaluated over the whole partition.
+ *
+ * <pre>
+ *     Window byDepartment = cb.createWindow()
+ *             .partitionBy(employee.get(Employee_.department))
+ *             .orderBy(cb.desc(employee.get(Employee_.salary)));
+ *     q.multiselect(employee, cb.rank(byDepartment));
+ * </pre>
+ *
+ * <p> Window functions cannot be used in restrictions, and there is
+ * no derived query, nor common table expression selecting other than
+ * entities, whose window function results could be restricted by an
+ * enclosing query.  Queries keeping only the first results of each
+ * partition, such as the top N salaries per department, therefore
+ * cannot filter on <code>rank</code> or <code>rowNumber</code>.  They
+ * can instead restrict the results with a correlated subquery counting
+ * the results which precede them:
+ *
+ * <pre>
+ *     Subquery&#060;Long&#062; higher = q.subquery(Long.class);
+ *     Root&#060;Employee&#062; other = higher.from(Employee.class);
+ *     higher.select(cb.count(other)).where(
+ *             cb.equal(other.get(Employee_.department), employee.get(Employee_.department)),
+ *             cb.greaterThan(other.get(Employee_.salary), employee.get(Employee_.salary)));
+ *     q.where(cb.lessThan(higher, (long) n));
+ * </pre>
+ *
+ * @see CriteriaBuilder#createWindow()
+ */
+public interface Window {
+	/**
+	 * Specify the expressions that are used to partition the
+	 * query results.
+	 * Replaces the previously specified partitioning expressions,
+	 * if any.  If no partitioning expressions are specified, the
+	 * query results form a single partition.
+	 *
+	 * @param expressions zero or more partitioning expressions
+	 *
+	 * @return the modified window
+	 */
+	Window partitionBy(Expression<?>... expressions);
+
+	/**
+	 * Specify the expressions that are used to partition the
+	 * query results.
+	 * Replaces the previously specified partitioning expressions,
+	 * if any.  If no partitioning expressions are specified, the
+	 * query results form a single partition.
+	 *
+	 * @param expressions list of zero or more partitioning expressions
+	 *
+	 * @return the modified window
+	 */
+	Window partitionBy(List<Expression<?>> expressions);
+
+	/**
+	 * Specify the ordering of the results within each partition.
+	 * Replaces the previously specified orderings, if any.
+	 * If no orderings are specified, the results of a partition
+	 * are in no particular order.
+	 *
+	 * @param o zero or more ordering expressions
+	 *
+	 * @return the modified window
+	 */
+	Window orderBy(Order... o);
+
+	/**
+	 * Specify the ordering of the results within each partition.
+	 * Replaces the previously specified orderings, if any.
+	 * If no orderings are specified, the results of a partition
+	 * are in no particular order.
+	 *
+	 * @param o list of zero or more ordering expressions
+	 *
+	 * @return the modified window
+	 */
+	Window orderBy(List<Order> o);
+
+	/**
+	 * Return the partitioning expressions.  Returns empty list
+	 * if no partitioning expressions have been specified.
+	 * Modifications to the list do not affect the window.
+	 *
+	 * @return the list of partitioning expressions
+	 */
+	List<Expression<?>> getPartitionList();
+
+	/**
+	 * Return the orderings.  Returns empty list if no orderings
+	 * have been specified.
+	 * Modifications to the list do not affect the window.
+	 *
+	 * @return the list of orderings
+	 */
+	List<Order> getOrderList();
+}
@@ -29,6 +29,10 @@ import java.lang.instrument.IllegalClassFormatException;
  * loaded or redefined. The transformation occurs before
  * the class is defined by the JVM.
  *
+ * <p> A transformer may make the entity classes implement the
+ * {@link EnhancedEntity} interface, in which case the enhanced
+ * classes must fulfill its load state and dirty tracking contract.
+ *
  * @since Java Persistence 1.0
  */
 public interface ClassTransformer {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008, 2009 Sun Microsystems. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * Contributors:
+ *     Linda DeMichiel - Java Persistence 2.0 - Version 2.0 (October 1, 2009)
+ *     Specification available from http://jcp.org/en/jsr/detail?id=317
+ */
+
+// $Id$
+
+package javax.persistence.spi;
+
+import java.util.BitSet;
+
+/**
+ * Optional contract implemented by entity classes enhanced by the
+ * {@link ClassTransformer} of a persistence provider.
+ *
+ * <p> An enhanced entity tracks, for each of its persistent attributes,
+ * whether the attribute state has been loaded and whether it has been
+ * modified since it was loaded or last flushed.  Attributes are
+ * designated by an index, fixed for the entity class, which is the
+ * position of the attribute in both bit sets.  This lets the provider
+ * implement the {@link ProviderUtil} methods and flush-time dirty
+ * checking with bit operations, without keeping a snapshot of the
+ * entity state.
+ *
+ * <p> The enhanced code updates the bit sets when attributes are read
+ * or written through their field or property accessors.  The provider
+ * updates them when it loads or flushes the entity state.  Callers of
+ * the methods below must not modify the returned bit sets.
+ *
+ * <p> The method names are prefixed with <code>_persistence_</code> to
+ * avoid clashes with the methods of the application entity classes.
+ */
+public interface EnhancedEntity {
+	/**
+	 * Return the index of a persistent attribute in the bit sets of the
+	 * entity class.
+	 *
+	 * @param attributeName name of the attribute
+	 *
+	 * @return index of the attribute, or -1 if the entity class has no
+	 *         persistent attribute of that name
+	 */
+	int _persistence_getAttributeIndex(String attributeName);
+
+	/**
+	 * Return the attributes whose state has been loaded.
+	 *
+	 * @return bit set in which the bit of each loaded attribute is set
+	 */
+	BitSet _persistence_getLoadedAttributes();
+
+	/**
+	 * Return the attributes modified since their state was loaded or
+	 * last flushed.
+	 *
+	 * @return bit set in which the bit of each modified attribute is set
+	 */
+	BitSet _persistence_getDirtyAttributes();
+
+	/**
+	 * Mark the state of the given attributes as loaded.  Invoked by the
+	 * provider when it loads attribute state.
+	 *
+	 * @param attributes bit set of the attributes whose state has been
+	 * loaded
+	 */
+	void _persistence_markLoaded(BitSet attributes);
+
+	/**
+	 * Mark all attributes as clean.  Invoked by the provider once the
+	 * changes of the entity have been flushed.
+	 */
+	void _persistence_clearDirtyAttributes();
+}
@@ -21,14 +21,21 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.persistence.PersistenceException;
@@ -72,24 +79,16 @@ public class PersistenceProviderResolverHolder {
 	 */
 	private static class PersistenceProviderResolverPerClassLoader implements PersistenceProviderResolver {
 
-		//FIXME use a ConcurrentHashMap with weak entry
-		private final WeakHashMap<ClassLoader, PersistenceProviderResolver> resolvers =
-				new WeakHashMap<ClassLoader, PersistenceProviderResolver>();
-		private volatile short barrier = 1;
+		private final ConcurrentMap<Object, PersistenceProviderResolver> resolvers =
+				new ConcurrentHashMap<Object, PersistenceProviderResolver>();
+		private final ReferenceQueue<ClassLoader> collectedClassLoaders = new ReferenceQueue<ClassLoader>();
+		private final Lock resolverCreationLock = new ReentrantLock();
 
 		/**
 		 * {@inheritDoc}
 		 */
 		public List<PersistenceProvider> getPersistenceProviders() {
-			ClassLoader cl = getContextualClassLoader();
-			if ( barrier == 1 ) {} //read barrier syncs state with other threads
-			PersistenceProviderResolver currentResolver = resolvers.get( cl );
-			if ( currentResolver == null ) {
-				currentResolver = new CachingPersistenceProviderResolver( cl );
-				resolvers.put( cl, currentResolver );
-				barrier = 1;
-			}
-			return currentResolver.getPersistenceProviders();
+			return getResolver( getContextualClassLoader() ).getPersistenceProviders();
 		}
 
 		/**
@@ -97,14 +96,45 @@ public class PersistenceProviderResolverHolder {
 		 */
 		public void clearCachedProviders() {
 			// todo : should we clear all providers from all resolvers here?
-			ClassLoader cl = getContextualClassLoader();
-			if ( barrier == 1 ) {} //read barrier syncs state with other threads
-			PersistenceProviderResolver currentResolver = resolvers.get( cl );
+			PersistenceProviderResolver currentResolver = resolvers.get( new ClassLoaderLookupKey( getContextualClassLoader() ) );
 			if ( currentResolver != null ) {
 				currentResolver.clearCachedProviders();
 			}
 		}
 
+		/**
+		 * Reads are lock free and write no state shared between threads; the short lived
+		 * lookup key does not escape, so that it is left to escape analysis.  On a miss the
+		 * resolver is built under a lock so that at most one resolver is ever created per
+		 * classloader.
+		 */
+		private PersistenceProviderResolver getResolver(ClassLoader cl) {
+			PersistenceProviderResolver currentResolver = resolvers.get( new ClassLoaderLookupKey( cl ) );
+			if ( currentResolver != null ) {
+				return currentResolver;
+			}
+			resolverCreationLock.lock();
+			try {
+				currentResolver = resolvers.get( new ClassLoaderLookupKey( cl ) );
+				if ( currentResolver == null ) {
+					expungeCollectedClassLoaders();
+					currentResolver = new CachingPersistenceProviderResolver( cl );
+					resolvers.put( new WeakClassLoaderKey( cl, collectedClassLoaders ), currentResolver );
+				}
+				return currentResolver;
+			}
+			finally {
+				resolverCreationLock.unlock();
+			}
+		}
+
+		private void expungeCollectedClassLoaders() {
+			Reference<? extends ClassLoader> collected;
+			while ( ( collected = collectedClassLoaders.poll() ) != null ) {
+				resolvers.remove( collected );
+			}
+		}
+
 		private static ClassLoader getContextualClassLoader() {
 			ClassLoader cl = Thread.currentThread().getContextClassLoader();
 			if ( cl == null ) {
@@ -113,6 +143,62 @@ public class PersistenceProviderResolverHolder {
 			return cl;
 		}
 
+		/**
+		 * Weak key of the resolver map, using the classloader identity.
+		 */
+		private static final class WeakClassLoaderKey extends WeakReference<ClassLoader> {
+			private final int hash;
+
+			WeakClassLoaderKey(ClassLoader cl, ReferenceQueue<ClassLoader> queue) {
+				super( cl, queue );
+				this.hash = System.identityHashCode( cl );
+			}
+
+			@Override
+			public int hashCode() {
+				return hash;
+			}
+
+			@Override
+			public boolean equals(Object other) {
+				if ( this == other ) {
+					return true;
+				}
+				final ClassLoader cl = get();
+				if ( cl == null ) {
+					return false;
+				}
+				if ( other instanceof WeakClassLoaderKey ) {
+					return cl == ( (WeakClassLoaderKey) other ).get();
+				}
+				return other instanceof ClassLoaderLookupKey && cl == ( (ClassLoaderLookupKey) other ).cl;
+			}
+		}
+
+		/**
+		 * Short lived key used to look up the resolver map without registering a reference.
+		 */
+		private static final class ClassLoaderLookupKey {
+			private final ClassLoader cl;
+
+			ClassLoaderLookupKey(ClassLoader cl) {
+				this.cl = cl;
+			}
+
+			@Override
+			public int hashCode() {
+				return System.identityHashCode( cl );
+			}
+
+			@Override
+			public boolean equals(Object other) {
+				if ( other instanceof ClassLoaderLookupKey ) {
+					return cl == ( (ClassLoaderLookupKey) other ).cl;
+				}
+				return other instanceof WeakClassLoaderKey && cl == ( (WeakClassLoaderKey) other ).get();
+			}
+		}
+
 		/**
 		 * Resolve the list of Persistence providers for a given classloader and cache the results.
 		 *
@@ -125,13 +211,19 @@ public class PersistenceProviderResolverHolder {
 			//this assumes that the class loader keeps the list of classes loaded
 			private final List<WeakReference<Class<? extends PersistenceProvider>>> resolverClasses
 					= new ArrayList<WeakReference<Class<? extends PersistenceProvider>>>();
+			//provider instances hold their class, hence possibly the classloader used as a weak key:
+			//keep them softly reachable so an undeployed classloader can still be reclaimed
+			private volatile SoftReference<List<PersistenceProvider>> providerInstances;
+			//not a monitor: resources are read under this lock, which would pin virtual threads
+			private final Lock lock = new ReentrantLock();
 
 			public CachingPersistenceProviderResolver(ClassLoader cl) {
 				loadResolverClasses( cl );
 			}
 
 			private void loadResolverClasses(ClassLoader cl) {
-				synchronized ( resolverClasses ) {
+				lock.lock();
+				try {
 					try {
 						Enumeration<URL> resources = cl.getResources( "META-INF/services/" + PersistenceProvider.class.getName() );
 						Set<String> names = new HashSet<String>();
@@ -168,17 +260,28 @@ public class PersistenceProviderResolverHolder {
 						throw new PersistenceException( e );
 					}
 				}
+				finally {
+					lock.unlock();
+				}
 			}
 
 			/**
 			 * {@inheritDoc}
+			 * <p/>
+			 * The provider instances are created once and published as an immutable list
+			 * so that subsequent lookups only cost a volatile read.
 			 */
 			public List<PersistenceProvider> getPersistenceProviders() {
-				//TODO find a way to cache property instances
-				//problem #1: avoid hard ref with classloader (List<WR<PP>>?
-				//problem #2: avoid half GC lists
-				// todo (steve) : why arent we just caching the PersistenceProvider *instances* as the CachingPersistenceProviderResolver state???
-				synchronized ( resolverClasses ) {
+				List<PersistenceProvider> cachedProviders = getCachedProviders();
+				if ( cachedProviders != null ) {
+					return cachedProviders;
+				}
+				lock.lock();
+				try {
+					cachedProviders = getCachedProviders();
+					if ( cachedProviders != null ) {
+						return cachedProviders;
+					}
 					List<PersistenceProvider> providers = new ArrayList<PersistenceProvider>( resolverClasses.size() );
 					try {
 						for ( WeakReference<Class<? extends PersistenceProvider>> providerClass : resolverClasses ) {
@@ -191,18 +294,33 @@ public class PersistenceProviderResolverHolder {
 					catch ( IllegalAccessException e ) {
 						throw new PersistenceException( e );
 					}
-					return providers;
+					cachedProviders = Collections.unmodifiableList( providers );
+					providerInstances = new SoftReference<List<PersistenceProvider>>( cachedProviders );
+					return cachedProviders;
+				}
+				finally {
+					lock.unlock();
 				}
 			}
 
+			private List<PersistenceProvider> getCachedProviders() {
+				final SoftReference<List<PersistenceProvider>> reference = providerInstances;
+				return reference == null ? null : reference.get();
+			}
+
 			/**
 			 * {@inheritDoc}
 			 */
-			public synchronized void clearCachedProviders() {
-				synchronized ( resolverClasses ) {
+			public void clearCachedProviders() {
+				lock.lock();
+				try {
+					providerInstances = null;
 					resolverClasses.clear();
 					loadResolverClasses( PersistenceProviderResolverPerClassLoader.getContextualClassLoader() );
 				}
+				finally {
+					lock.unlock();
+				}
 			}
 
 
@@ -17,12 +17,20 @@
 
 package javax.persistence.spi;
 
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * Utility interface implemented by the persistence provider.  This
  * interface is invoked by the {@link
  * javax.persistence.PersistenceUtil} implementation to determine
  * the load status of an entity or entity attribute.
  *
+ * <p> If the provider enhances the entity classes so that they implement
+ * {@link EnhancedEntity}, the load status of attributes is expected to
+ * be determined from the bit set the entity maintains, without
+ * accessing the attribute state.
+ *
  * @since Java Persistence 2.0
  */
 public interface ProviderUtil {
@@ -75,6 +83,68 @@ public interface ProviderUtil {
 	 */
 	public LoadState isLoadedWithReference(Object entity, String attributeName);
 
+	/**
+	 * Bulk variant of <code>isLoadedWithoutReference(Object, String)</code>.
+	 * <p> If the provider determines that the entity has been provided
+	 * by itself, this method sets, in <code>loadedAttributes</code>,
+	 * the bit at index <code>i</code> for each attribute at index
+	 * <code>i</code> in <code>attributeNames</code> whose state has
+	 * been loaded.  It then returns <code>LoadState.LOADED</code> if
+	 * the state of all specified attributes has been loaded, and
+	 * <code>LoadState.NOT_LOADED</code> otherwise.
+	 * <p> If the provider cannot determine the load state, this method
+	 * returns <code>LoadState.UNKNOWN</code> and leaves
+	 * <code>loadedAttributes</code> untouched.
+	 * <p> The provider's implementation of this method must not obtain
+	 * a reference to an attribute value, as this could trigger the
+	 * loading of entity state if the entity has been provided by a
+	 * different provider.
+	 * <p> Providers compiled against Java Persistence 2.0 do not
+	 * implement this method.  The <code>PersistenceUtil</code>
+	 * implementation then falls back to calling
+	 * <code>isLoadedWithoutReference(Object, String)</code> for each
+	 * attribute.
+	 *
+	 * @param entity entity instance
+	 * @param attributeNames names of attributes whose load status is
+	 * to be determined
+	 * @param loadedAttributes bit set receiving the load status of
+	 * the attributes
+	 *
+	 * @return load status of the attributes taken as a whole
+	 */
+	public LoadState isLoadedWithoutReference(Object entity, List<String> attributeNames, BitSet loadedAttributes);
+
+	/**
+	 * Bulk variant of <code>isLoadedWithReference(Object, String)</code>.
+	 * <p> If the provider determines that the entity has been provided
+	 * by itself, this method sets, in <code>loadedAttributes</code>,
+	 * the bit at index <code>i</code> for each attribute at index
+	 * <code>i</code> in <code>attributeNames</code> whose state has
+	 * been loaded.  It then returns <code>LoadState.LOADED</code> if
+	 * the state of all specified attributes has been loaded, and
+	 * <code>LoadState.NOT_LOADED</code> otherwise.
+	 * <p> If the provider cannot determine the load state, this method
+	 * returns <code>LoadState.UNKNOWN</code> and leaves
+	 * <code>loadedAttributes</code> untouched.
+	 * <p> The provider's implementation of this method is permitted to
+	 * obtain a reference to the attribute values.
+	 * <p> Providers compiled against Java Persistence 2.0 do not
+	 * implement this method.  The <code>PersistenceUtil</code>
+	 * implementation then falls back to calling
+	 * <code>isLoadedWithReference(Object, String)</code> for each
+	 * attribute.
+	 *
+	 * @param entity entity instance
+	 * @param attributeNames names of attributes whose load status is
+	 * to be determined
+	 * @param loadedAttributes bit set receiving the load status of
+	 * the attributes
+	 *
+	 * @return load status of the attributes taken as a whole
+	 */
+	public LoadState isLoadedWithReference(Object entity, List<String> attributeNames, BitSet loadedAttributes);
+
 	/**
 	 * If the provider determines that the entity has been provided
 	 * by itself and that the state of all attributes for which
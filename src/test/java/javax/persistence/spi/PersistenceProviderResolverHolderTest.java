@@ -0,0 +1,143 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * Copyright (c) 2026, Red Hat Inc. or third-party contributors as
+ * indicated by the @author tags or express copyright attribution
+ * statements applied by the authors.  All third-party contributions are
+ * distributed under license by Red Hat Inc.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 and Eclipse Distribution License v. 1.0
+ * which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+// $Id$
+
+package javax.persistence.spi;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that concurrent first accesses to the default resolver share a single
+ * cached resolver, hence a single list of providers, per classloader.
+ */
+public class PersistenceProviderResolverHolderTest {
+	private static final String SERVICE_FILE = "META-INF/services/" + PersistenceProvider.class.getName();
+	private static final int THREADS = 64;
+	private static final int CLASS_LOADERS = 4;
+
+	@Test
+	public void testConcurrentFirstAccessCreatesOneResolverPerClassLoader() throws Exception {
+		final ServiceFileClassLoader[] classLoaders = new ServiceFileClassLoader[CLASS_LOADERS];
+		for ( int i = 0; i < CLASS_LOADERS; i++ ) {
+			classLoaders[i] = new ServiceFileClassLoader( getClass().getClassLoader() );
+		}
+		final int instancesBefore = CountingPersistenceProvider.INSTANCES.get();
+		final CyclicBarrier start = new CyclicBarrier( THREADS );
+		ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		List<Future<List<PersistenceProvider>>> results = new ArrayList<Future<List<PersistenceProvider>>>();
+		try {
+			for ( int i = 0; i < THREADS; i++ ) {
+				final ClassLoader classLoader = classLoaders[i % CLASS_LOADERS];
+				results.add(
+						executor.submit(
+								new Callable<List<PersistenceProvider>>() {
+									public List<PersistenceProvider> call() throws Exception {
+										Thread.currentThread().setContextClassLoader( classLoader );
+										start.await( 10, TimeUnit.SECONDS );
+										return PersistenceProviderResolverHolder.getPersistenceProviderResolver()
+												.getPersistenceProviders();
+									}
+								}
+						)
+				);
+			}
+			List<List<PersistenceProvider>> firstSeen = new ArrayList<List<PersistenceProvider>>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				List<PersistenceProvider> providers = results.get( i ).get( 10, TimeUnit.SECONDS );
+				assertEquals( 1, providers.size() );
+				if ( i < CLASS_LOADERS ) {
+					firstSeen.add( providers );
+				}
+				else {
+					assertSame( "all threads of a classloader must see the same providers", firstSeen.get( i % CLASS_LOADERS ), providers );
+				}
+			}
+			for ( int i = 0; i < CLASS_LOADERS; i++ ) {
+				assertEquals( "one resolver must read the services of a classloader", 1, classLoaders[i].serviceLookups.get() );
+				for ( int j = i + 1; j < CLASS_LOADERS; j++ ) {
+					assertNotSame( firstSeen.get( i ), firstSeen.get( j ) );
+				}
+			}
+			assertEquals( CLASS_LOADERS, CountingPersistenceProvider.INSTANCES.get() - instancesBefore );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Exposes the counting provider as the only service of a fresh classloader, and counts
+	 * the lookups of the service file, each of which corresponds to a resolver creation.
+	 */
+	private static class ServiceFileClassLoader extends ClassLoader {
+		private final AtomicInteger serviceLookups = new AtomicInteger();
+
+		ServiceFileClassLoader(ClassLoader parent) {
+			super( parent );
+		}
+
+		@Override
+		protected Enumeration<URL> findResources(String name) throws IOException {
+			if ( !SERVICE_FILE.equals( name ) ) {
+				return super.findResources( name );
+			}
+			serviceLookups.incrementAndGet();
+			URL services = getParent().getResource( "javax/persistence/spi/counting-provider.services" );
+			return Collections.enumeration( Collections.singletonList( services ) );
+		}
+	}
+
+	public static class CountingPersistenceProvider implements PersistenceProvider {
+		static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		public CountingPersistenceProvider() {
+			INSTANCES.incrementAndGet();
+		}
+
+		public EntityManagerFactory createEntityManagerFactory(String emName, Map map) {
+			return null;
+		}
+
+		public EntityManagerFactory createContainerEntityManagerFactory(PersistenceUnitInfo info, Map map) {
+			return null;
+		}
+
+		public ProviderUtil getProviderUtil() {
+			return null;
+		}
+	}
+}